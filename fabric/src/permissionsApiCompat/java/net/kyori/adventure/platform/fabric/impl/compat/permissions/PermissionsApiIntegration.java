@@ -28,6 +28,7 @@ import net.fabricmc.api.ModInitializer;
 import net.fabricmc.loader.api.FabricLoader;
 import net.kyori.adventure.permission.PermissionChecker;
 import net.kyori.adventure.platform.fabric.CollectPointersCallback;
+import net.kyori.adventure.platform.modcommon.impl.PermissionCache;
 import net.kyori.adventure.text.logger.slf4j.ComponentLogger;
 import net.kyori.adventure.util.TriState;
 import net.minecraft.commands.SharedSuggestionProvider;
@@ -52,7 +53,7 @@ public class PermissionsApiIntegration implements ModInitializer {
       if (pointered instanceof Entity e) {
         consumer.withStatic(
           PermissionChecker.POINTER,
-          perm -> adaptTristate(Permissions.getPermissionValue(e, perm))
+          perm -> PermissionCache.get(e.getUUID(), perm, () -> adaptTristate(Permissions.getPermissionValue(e, perm)))
         );
       } else if (pointered instanceof SharedSuggestionProvider sourceStack) {
         consumer.withStatic(
@@ -51,6 +51,10 @@ abstract class BootstrappedTest {
     return registries;
   }
 
+  protected static RegistryAccess registryAccess() {
+    return registries;
+  }
+
   protected JsonElement componentToJson(final @NotNull Component mc) {
     final RegistryOps<JsonElement> ops = lookup().createSerializationContext(JsonOps.INSTANCE);
     return ComponentSerialization.CODEC.encodeStart(ops, mc).getOrThrow(err -> new RuntimeException("Failed to write component: " + err));
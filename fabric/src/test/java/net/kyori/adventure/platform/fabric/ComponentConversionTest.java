@@ -25,6 +25,7 @@ package net.kyori.adventure.platform.fabric;
 
 import com.google.gson.JsonElement;
 import com.google.gson.stream.JsonWriter;
+import io.netty.buffer.Unpooled;
 import java.io.IOException;
 import java.io.StringWriter;
 import java.lang.annotation.ElementType;
@@ -32,30 +33,43 @@ import java.lang.annotation.Retention;
 import java.lang.annotation.RetentionPolicy;
 import java.lang.annotation.Target;
 import java.util.Comparator;
+import java.util.List;
 import java.util.Locale;
 import java.util.function.Function;
 import java.util.stream.Stream;
+import net.kyori.adventure.audience.Audience;
 import net.kyori.adventure.key.Key;
 import net.kyori.adventure.platform.modcommon.impl.AdventureCommon;
+import net.kyori.adventure.platform.modcommon.impl.AdventureComponentConverter;
+import net.kyori.adventure.platform.modcommon.impl.NativeComponentConverter;
 import net.kyori.adventure.platform.modcommon.impl.NonWrappingComponentSerializer;
 import net.kyori.adventure.platform.modcommon.impl.WrappedComponent;
+import net.kyori.adventure.platform.modcommon.impl.server.FriendlyByteBufBridge;
 import net.kyori.adventure.pointer.Pointered;
 import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.TranslatableComponent;
 import net.kyori.adventure.text.format.NamedTextColor;
 import net.kyori.adventure.text.format.TextColor;
 import net.kyori.adventure.text.minimessage.MiniMessage;
+import net.kyori.adventure.text.renderer.ComponentRenderer;
 import net.kyori.adventure.text.serializer.gson.GsonComponentSerializer;
 import net.kyori.adventure.translation.GlobalTranslator;
 import net.minecraft.core.component.DataComponentPatch;
 import net.minecraft.core.component.DataComponents;
+import net.minecraft.network.RegistryFriendlyByteBuf;
+import net.minecraft.network.chat.ComponentSerialization;
 import net.minecraft.util.GsonHelper;
 import net.minecraft.world.item.ItemStack;
 import net.minecraft.world.item.Items;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.MethodSource;
 
 import static net.kyori.adventure.text.format.Style.style;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
 import static org.junit.jupiter.api.Named.named;
 
@@ -96,6 +110,23 @@ class ComponentConversionTest extends BootstrappedTest {
     assertJsonTreesEqual(serializedNative, serialized);
   }
 
+  @TestOnComponents
+  void testDirectConversionEqualsJsonConversion(final Component input) {
+    final JsonElement serialized = GsonComponentSerializer.gson().serializeToTree(input);
+    final JsonElement serializedNative = this.componentToJson(new NativeComponentConverter(BootstrappedTest::lookup).toNative(input));
+
+    assertJsonTreesEqual(serializedNative, serialized);
+  }
+
+  @TestOnComponents
+  void testDirectConversionToAdventureRoundTrips(final Component input) {
+    final JsonElement serialized = GsonComponentSerializer.gson().serializeToTree(input);
+    final net.minecraft.network.chat.Component mc = net.minecraft.network.chat.Component.Serializer.fromJson(serialized, lookup());
+    final JsonElement roundTripped = GsonComponentSerializer.gson().serializeToTree(AdventureComponentConverter.INSTANCE.toAdventure(mc));
+
+    assertJsonTreesEqual(serialized, roundTripped);
+  }
+
   @TestOnComponents
   void testComponentEqualSerializationWrappedAfterDeepConversion(final Component input) {
     final JsonElement serialized = GsonComponentSerializer.gson().serializeToTree(input);
@@ -115,6 +146,55 @@ class ComponentConversionTest extends BootstrappedTest {
     assertJsonTreesEqual(serializedNative, serialized);
   }
 
+  @TestOnComponents
+  void testWrappedEqualityWithoutDeepConversion(final Component input) {
+    final WrappedComponent wrapped = this.asNativeWrapped(input);
+    final net.minecraft.network.chat.Component mc = net.minecraft.network.chat.Component.Serializer.fromJson(GsonComponentSerializer.gson().serializeToTree(input), lookup());
+
+    final WrappedComponent other = this.asNativeWrapped(input);
+
+    assertEquals(wrapped, other);
+    assertFalse(wrapped.equals(net.minecraft.network.chat.Component.literal("something else")));
+    assertNull(wrapped.deepConvertedIfPresent());
+    assertTrue(wrapped.equals(mc));
+    assertEquals(mc.hashCode(), wrapped.hashCode());
+    assertEquals(wrapped.hashCode(), other.hashCode());
+  }
+
+  @Test
+  void testTruncatedStringIsPrefixOfRenderedString() {
+    final ComponentRenderer<Pointered> renderer = (component, viewer) -> component instanceof final TranslatableComponent translatable
+      ? Component.text("Rendered " + translatable.key())
+      : component;
+    final WrappedComponent wrapped = new WrappedComponent(Component.translatable("gameMode.creative"), AdventureCommon.localePartition(), renderer, NonWrappingComponentSerializer.INSTANCE);
+
+    final String full = wrapped.getString();
+    assertEquals("Rendered gameMode.creative", full);
+    for (int length = 0; length <= full.length() + 1; length++) {
+      assertEquals(full.substring(0, Math.min(length, full.length())), wrapped.getString(length));
+    }
+  }
+
+  @Test
+  void testTemplatePartsEncodeLikeJoinedTree() {
+    final Component prefix = Component.text("[Server] ", NamedTextColor.GOLD);
+    final Component argument = Component.text("plain"); // written by vanilla as a bare string, not a compound
+    final Component suffix = Component.translatable("gameMode.creative", style(NamedTextColor.RED));
+    final WrappedComponent joined = this.asNativeWrapped(Component.text().append(prefix, argument, suffix).build())
+      .parts(List.of(this.asNativeWrapped(prefix), this.asNativeWrapped(argument), this.asNativeWrapped(suffix)));
+    final Pointered viewer = Audience.empty(); // rendered in the default locale
+
+    final RegistryFriendlyByteBuf spliced = new RegistryFriendlyByteBuf(Unpooled.buffer(), registryAccess());
+    ((FriendlyByteBufBridge) spliced).adventure$data(viewer);
+    ComponentSerialization.STREAM_CODEC.encode(spliced, joined);
+
+    final RegistryFriendlyByteBuf vanilla = new RegistryFriendlyByteBuf(Unpooled.buffer(), registryAccess());
+    ComponentSerialization.STREAM_CODEC.encode(vanilla, joined.rendered(viewer).deepConverted());
+
+    assertEquals(ComponentSerialization.STREAM_CODEC.decode(vanilla), ComponentSerialization.STREAM_CODEC.decode(spliced));
+    assertEquals(0, spliced.readableBytes());
+  }
+
   private static void assertJsonTreesEqual(final JsonElement expected, final JsonElement actual) {
     assertEquals(toStableString(expected), toStableString(actual));
   }
@@ -0,0 +1,68 @@
+/*
+ * This file is part of adventure-platform-mod, licensed under the MIT License.
+ *
+ * Copyright (c) 2020-2024 KyoriPowered
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.kyori.adventure.platform.fabric;
+
+import java.util.UUID;
+import net.kyori.adventure.key.Key;
+import net.kyori.adventure.platform.modcommon.impl.RenderInvariance;
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.event.HoverEvent;
+import net.kyori.adventure.text.format.NamedTextColor;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class RenderInvarianceTest {
+  private static final Component TRANSLATABLE = Component.translatable("gameMode.creative");
+
+  @Test
+  void testPlainTreesAreInvariant() {
+    assertTrue(RenderInvariance.isTranslationInvariant(Component.text("Hello", NamedTextColor.RED).append(Component.keybind("key.jump"))));
+    assertTrue(RenderInvariance.isTranslationInvariant(Component.text("Hover").hoverEvent(HoverEvent.showText(Component.text("tooltip")))));
+    assertTrue(RenderInvariance.isTranslationInvariant(Component.selector("@a", Component.text(", "))));
+  }
+
+  @Test
+  void testTranslatableRootIsNotInvariant() {
+    assertFalse(RenderInvariance.isTranslationInvariant(TRANSLATABLE));
+  }
+
+  @Test
+  void testTranslatableChildIsNotInvariant() {
+    assertFalse(RenderInvariance.isTranslationInvariant(Component.text("Mode: ").append(Component.text().append(TRANSLATABLE))));
+  }
+
+  @Test
+  void testTranslatableHoverIsNotInvariant() {
+    assertFalse(RenderInvariance.isTranslationInvariant(Component.text("Hover").hoverEvent(HoverEvent.showText(TRANSLATABLE))));
+    assertFalse(RenderInvariance.isTranslationInvariant(Component.text("Entity").hoverEvent(HoverEvent.showEntity(Key.key("pig"), UUID.randomUUID(), TRANSLATABLE))));
+  }
+
+  @Test
+  void testTranslatableSeparatorIsNotInvariant() {
+    assertFalse(RenderInvariance.isTranslationInvariant(Component.selector("@a", TRANSLATABLE)));
+    assertFalse(RenderInvariance.isTranslationInvariant(Component.storageNBT().nbtPath("path").storage(Key.key("adventure", "test")).separator(TRANSLATABLE).build()));
+  }
+}
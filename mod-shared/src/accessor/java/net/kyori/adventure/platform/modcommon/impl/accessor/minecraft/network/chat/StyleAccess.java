@@ -0,0 +1,42 @@
+/*
+ * This file is part of adventure-platform-mod, licensed under the MIT License.
+ *
+ * Copyright (c) 2020-2024 KyoriPowered
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.kyori.adventure.platform.modcommon.impl.accessor.minecraft.network.chat;
+
+import net.minecraft.network.chat.Style;
+import net.minecraft.resources.ResourceLocation;
+import org.jetbrains.annotations.Nullable;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.gen.Accessor;
+
+@Mixin(Style.class)
+public interface StyleAccess {
+  // @formatter:off
+  @Accessor("bold") @Nullable Boolean accessor$bold();
+  @Accessor("italic") @Nullable Boolean accessor$italic();
+  @Accessor("underlined") @Nullable Boolean accessor$underlined();
+  @Accessor("strikethrough") @Nullable Boolean accessor$strikethrough();
+  @Accessor("obfuscated") @Nullable Boolean accessor$obfuscated();
+  @Accessor("font") @Nullable ResourceLocation accessor$font();
+  // @formatter:on
+}
@@ -25,6 +25,7 @@ package net.kyori.adventure.platform.modcommon.impl.client;
 
 import java.net.MalformedURLException;
 import java.time.Duration;
+import java.util.List;
 import java.util.Objects;
 import java.util.UUID;
 import net.kyori.adventure.audience.MessageType;
@@ -39,6 +40,7 @@ import net.kyori.adventure.platform.modcommon.impl.AdventureCommon;
 import net.kyori.adventure.platform.modcommon.impl.ControlledAudience;
 import net.kyori.adventure.platform.modcommon.impl.GameEnums;
 import net.kyori.adventure.platform.modcommon.impl.MinecraftAudiencesInternal;
+import net.kyori.adventure.platform.modcommon.impl.ParallelConversion;
 import net.kyori.adventure.platform.modcommon.impl.accessor.minecraft.world.level.LevelAccess;
 import net.kyori.adventure.platform.modcommon.impl.client.mixin.minecraft.resources.sounds.AbstractSoundInstanceAccess;
 import net.kyori.adventure.pointer.Pointered;
@@ -289,7 +291,15 @@ public class ClientAudience implements ControlledAudience {
 
   @Override
   public void openBook(final @NotNull Book book) {
-    this.client.setScreen(new BookViewScreen(new BookViewScreen.BookAccess(book.pages().stream().map(this.controller::asNative).toList())));
+    final List<Component> pages = book.pages();
+    final List<net.minecraft.network.chat.Component> converted;
+    if (ParallelConversion.shouldSplit(pages.size())) {
+      // localize every page up front rather than one at a time as the screen lays them out
+      converted = ParallelConversion.map(pages, page -> ParallelConversion.preconverted(this.controller.asNative(page), this));
+    } else {
+      converted = pages.stream().map(this.controller::asNative).toList();
+    }
+    this.client.setScreen(new BookViewScreen(new BookViewScreen.BookAccess(converted)));
   }
 
   @Override
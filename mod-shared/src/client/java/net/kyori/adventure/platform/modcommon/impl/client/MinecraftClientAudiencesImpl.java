@@ -28,6 +28,7 @@ import net.kyori.adventure.audience.Audience;
 import net.kyori.adventure.platform.modcommon.MinecraftClientAudiences;
 import net.kyori.adventure.platform.modcommon.impl.AdventureCommon;
 import net.kyori.adventure.platform.modcommon.impl.MinecraftAudiencesInternal;
+import net.kyori.adventure.platform.modcommon.impl.NativeComponentConverter;
 import net.kyori.adventure.platform.modcommon.impl.NonWrappingComponentSerializer;
 import net.kyori.adventure.pointer.Pointered;
 import net.kyori.adventure.text.flattener.ComponentFlattener;
@@ -38,6 +39,7 @@ import net.minecraft.client.Minecraft;
 import net.minecraft.client.multiplayer.ClientLevel;
 import net.minecraft.core.RegistryAccess;
 import net.minecraft.network.chat.Component;
+import net.minecraft.network.chat.MutableComponent;
 import net.minecraft.server.RegistryLayer;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
@@ -49,10 +51,16 @@ public class MinecraftClientAudiencesImpl implements MinecraftClientAudiences, M
   private final Function<Pointered, ?> partition;
   private final ComponentRenderer<Pointered> renderer;
   private final ClientAudience audience;
+  private final boolean translationOnly;
 
   public MinecraftClientAudiencesImpl(final Function<Pointered, ?> partition, final ComponentRenderer<Pointered> renderer) {
+    this(partition, renderer, false);
+  }
+
+  MinecraftClientAudiencesImpl(final Function<Pointered, ?> partition, final ComponentRenderer<Pointered> renderer, final boolean translationOnly) {
     this.partition = partition;
     this.renderer = renderer;
+    this.translationOnly = translationOnly;
     this.audience = new ClientAudience(Minecraft.getInstance(), this);
   }
 
@@ -81,6 +89,12 @@ public class MinecraftClientAudiencesImpl implements MinecraftClientAudiences, M
     if (adventure == null) {
       return null;
     }
+    if (this.translationOnly) {
+      final @Nullable MutableComponent plain = NativeComponentConverter.plainText(adventure);
+      if (plain != null) {
+        return plain;
+      }
+    }
     return new ClientWrappedComponent(requireNonNull(adventure, "adventure"), this.partition, this.renderer);
   }
 
@@ -97,6 +111,7 @@ public class MinecraftClientAudiencesImpl implements MinecraftClientAudiences, M
   public static final class Builder implements MinecraftClientAudiences.Builder {
     private Function<Pointered, ?> partition;
     private ComponentRenderer<Pointered> renderer;
+    private boolean translationOnly;
 
     public Builder() {
       this.componentRenderer(AdventureCommon.localePartition(), GlobalTranslator.renderer());
@@ -105,6 +120,15 @@ public class MinecraftClientAudiencesImpl implements MinecraftClientAudiences, M
     @Override
     public MinecraftClientAudiences.@NotNull Builder componentRenderer(final @NotNull ComponentRenderer<Pointered> componentRenderer) {
       this.renderer = requireNonNull(componentRenderer, "componentRenderer");
+      this.translationOnly = false;
+      return this;
+    }
+
+    @Override
+    public <T> MinecraftClientAudiences.@NotNull Builder componentRenderer(final @NotNull Function<Pointered, T> pointers, final @NotNull ComponentRenderer<T> renderer) {
+      this.partition(pointers).componentRenderer(renderer.mapContext(pointers));
+      // the global translator leaves plain text untouched, so it can skip wrapping entirely
+      this.translationOnly = renderer == GlobalTranslator.renderer();
       return this;
     }
 
@@ -116,7 +140,7 @@ public class MinecraftClientAudiencesImpl implements MinecraftClientAudiences, M
 
     @Override
     public @NotNull MinecraftClientAudiences build() {
-      return new MinecraftClientAudiencesImpl(this.partition, this.renderer);
+      return new MinecraftClientAudiencesImpl(this.partition, this.renderer, this.translationOnly);
     }
   }
 }
@@ -0,0 +1,58 @@
+/*
+ * This file is part of adventure-platform-mod, licensed under the MIT License.
+ *
+ * Copyright (c) 2020-2024 KyoriPowered
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.kyori.adventure.platform.modcommon;
+
+import net.kyori.adventure.text.ComponentLike;
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * A message made of fixed fragments with arguments placed between them.
+ *
+ * <p>The fixed fragments are rendered and encoded once for each partition, and reused by every
+ * message created from this template. Only the arguments are converted and encoded on each send.</p>
+ *
+ * @see MinecraftServerAudiences#template(ComponentLike...)
+ * @since 6.1.0
+ */
+@ApiStatus.NonExtendable
+public interface ComponentTemplate {
+  /**
+   * Get the number of arguments this template expects.
+   *
+   * @return the argument count
+   * @since 6.1.0
+   */
+  int arguments();
+
+  /**
+   * Create a native component from this template.
+   *
+   * @param arguments the arguments to place between fragments, in order
+   * @return a new native component
+   * @throws IllegalArgumentException if the number of arguments does not match {@link #arguments()}
+   * @since 6.1.0
+   */
+  net.minecraft.network.chat.@NotNull Component apply(@NotNull ComponentLike @NotNull... arguments);
+}
@@ -23,10 +23,15 @@
  */
 package net.kyori.adventure.platform.modcommon;
 
+import java.util.UUID;
 import net.kyori.adventure.audience.Audience;
+import net.kyori.adventure.key.Key;
 import net.kyori.adventure.platform.AudienceProvider;
 import net.kyori.adventure.platform.modcommon.impl.server.MinecraftServerAudiencesImpl;
 import net.kyori.adventure.platform.modcommon.impl.server.MinecraftServerBridge;
+import net.kyori.adventure.pointer.Pointered;
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.ComponentLike;
 import net.minecraft.commands.CommandSource;
 import net.minecraft.commands.CommandSourceStack;
 import net.minecraft.server.MinecraftServer;
@@ -98,6 +103,97 @@ public interface MinecraftServerAudiences extends AudienceProvider, MinecraftAud
    */
   @NotNull Audience audience(@NotNull Iterable<ServerPlayer> players);
 
+  /**
+   * Prepare a component to be sent many times, rendering it ahead of time for every online player.
+   *
+   * @param component the component to prepare
+   * @return a prepared component
+   * @see #prepare(Component, Iterable)
+   * @since 6.1.0
+   */
+  @NotNull PreparedComponent prepare(@NotNull Component component);
+
+  /**
+   * Prepare a component to be sent many times.
+   *
+   * <p>The component is rendered and converted once for the partition of each viewer,
+   * and those results are reused by every later send to any audience from this provider.
+   * Partitions not covered by {@code viewers} are rendered on first use.</p>
+   *
+   * @param component the component to prepare
+   * @param viewers viewers whose partitions should be rendered ahead of time
+   * @return a prepared component
+   * @since 6.1.0
+   */
+  @NotNull PreparedComponent prepare(@NotNull Component component, @NotNull Iterable<? extends Pointered> viewers);
+
+  /**
+   * Create a template for messages that differ only in a few arguments.
+   *
+   * <p>Arguments are placed between consecutive fragments, so a template of {@code n} fragments takes {@code n - 1} arguments.
+   * For example, the fragments {@code "[Shop] You bought "}, {@code " for "} and {@code "!"} make a template with two arguments.</p>
+   *
+   * @param fragments the fixed parts of the message
+   * @return a new template
+   * @throws IllegalArgumentException if no fragments are provided
+   * @since 6.1.0
+   */
+  @NotNull ComponentTemplate template(@NotNull ComponentLike @NotNull... fragments);
+
+  /**
+   * Get an audience of the players within a sphere in a world.
+   *
+   * <p>Membership is decided when this method is called, and does not change as players move.
+   * Only the parts of the world around the sphere are searched, so this is cheap even with many players online.</p>
+   *
+   * @param worldId the id of the world
+   * @param x the x coordinate of the centre
+   * @param y the y coordinate of the centre
+   * @param z the z coordinate of the centre
+   * @param radius the radius, in blocks
+   * @return an audience of the players in range, or an empty audience if the world does not exist
+   * @throws IllegalArgumentException if the radius is negative
+   * @since 6.1.0
+   */
+  @NotNull Audience nearby(@NotNull Key worldId, double x, double y, double z, double radius);
+
+  /**
+   * Get an audience of the players within a square area of chunks in a world.
+   *
+   * <p>Membership is decided when this method is called, and does not change as players move. Players at any height count, including those above the build limit or below the world.</p>
+   *
+   * @param worldId the id of the world
+   * @param chunkX the x coordinate of the chunk at the centre of the area
+   * @param chunkZ the z coordinate of the chunk at the centre of the area
+   * @param chunkRadius the number of chunks the area extends in each direction from the centre chunk
+   * @return an audience of the players in the area, or an empty audience if the world does not exist
+   * @throws IllegalArgumentException if the radius is negative
+   * @since 6.1.0
+   */
+  @NotNull Audience chunkArea(@NotNull Key worldId, int chunkX, int chunkZ, int chunkRadius);
+
+  /**
+   * Forget which players hold each permission.
+   *
+   * <p>When the {@code adventure.permissionCache} system property is {@code true}, permission checks made through the
+   * platform's permission backend are remembered per player, and {@link #permission(String)} audiences check each
+   * online player once and then only check players as they join. Both last until
+   * {@code adventure.permissionCache.ttl} milliseconds have passed if that property is set. Call this after changing
+   * permissions so that they are checked again. Otherwise, this method does nothing.</p>
+   *
+   * @since 6.1.0
+   */
+  void invalidatePermissions();
+
+  /**
+   * Forget the permissions held by one player.
+   *
+   * @param playerId the id of the player whose permissions changed
+   * @see #invalidatePermissions()
+   * @since 6.1.0
+   */
+  void invalidatePermissions(@NotNull UUID playerId);
+
   /**
    * Builder for {@link MinecraftServerAudiences} with custom attributes.
    *
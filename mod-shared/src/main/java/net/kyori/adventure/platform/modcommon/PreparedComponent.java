@@ -0,0 +1,52 @@
+/*
+ * This file is part of adventure-platform-mod, licensed under the MIT License.
+ *
+ * Copyright (c) 2020-2024 KyoriPowered
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.kyori.adventure.platform.modcommon;
+
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.ComponentLike;
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * A component that has been prepared to be sent many times.
+ *
+ * <p>Passing {@link #asComponent()} (or this object itself, as a {@link ComponentLike}) to an audience
+ * from the controller that prepared it will reuse the rendered and converted forms, rather than
+ * repeating that work on every send.</p>
+ *
+ * <p>Prepared components are immutable, and remain usable for as long as a reference to them is held.</p>
+ *
+ * @see MinecraftServerAudiences#prepare(Component)
+ * @since 6.1.0
+ */
+@ApiStatus.NonExtendable
+public interface PreparedComponent extends ComponentLike {
+  /**
+   * Get the native representation of this component.
+   *
+   * @return the native component
+   * @since 6.1.0
+   */
+  net.minecraft.network.chat.@NotNull Component asNative();
+}
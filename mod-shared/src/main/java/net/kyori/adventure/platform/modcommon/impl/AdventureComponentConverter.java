@@ -0,0 +1,242 @@
+/*
+ * This file is part of adventure-platform-mod, licensed under the MIT License.
+ *
+ * Copyright (c) 2020-2024 KyoriPowered
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.kyori.adventure.platform.modcommon.impl;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Optional;
+import net.kyori.adventure.key.Key;
+import net.kyori.adventure.platform.modcommon.MinecraftAudiences;
+import net.kyori.adventure.platform.modcommon.impl.accessor.minecraft.network.chat.StyleAccess;
+import net.kyori.adventure.text.BlockNBTComponent;
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.ComponentBuilder;
+import net.kyori.adventure.text.TranslationArgument;
+import net.kyori.adventure.text.event.ClickEvent;
+import net.kyori.adventure.text.event.HoverEvent;
+import net.kyori.adventure.text.format.NamedTextColor;
+import net.kyori.adventure.text.format.Style;
+import net.kyori.adventure.text.format.TextColor;
+import net.kyori.adventure.text.format.TextDecoration;
+import net.minecraft.core.registries.BuiltInRegistries;
+import net.minecraft.network.chat.ComponentContents;
+import net.minecraft.network.chat.contents.BlockDataSource;
+import net.minecraft.network.chat.contents.DataSource;
+import net.minecraft.network.chat.contents.EntityDataSource;
+import net.minecraft.network.chat.contents.KeybindContents;
+import net.minecraft.network.chat.contents.NbtContents;
+import net.minecraft.network.chat.contents.PlainTextContents;
+import net.minecraft.network.chat.contents.ScoreContents;
+import net.minecraft.network.chat.contents.SelectorContents;
+import net.minecraft.network.chat.contents.StorageDataSource;
+import net.minecraft.network.chat.contents.TranslatableContents;
+import net.minecraft.resources.ResourceLocation;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Converts native components into Adventure components by visiting the native contents, styles and events directly.
+ *
+ * <p>Mod-provided content types and other values that cannot be mapped will cause a
+ * {@link NativeComponentConverter.UnsupportedContentException} to be thrown, and callers are
+ * expected to fall back to a codec-based conversion.</p>
+ */
+public final class AdventureComponentConverter {
+  public static final AdventureComponentConverter INSTANCE = new AdventureComponentConverter();
+
+  private static final Map<net.minecraft.network.chat.TextColor, NamedTextColor> NAMED_COLORS = new IdentityHashMap<>();
+  private static final Cache<net.minecraft.network.chat.Style, Style> STYLES = CacheBuilder.newBuilder()
+    .maximumSize(NativeComponentConverter.MAX_INTERNED_STYLES)
+    .build();
+
+  static {
+    for (final NamedTextColor color : NamedTextColor.NAMES.values()) {
+      NAMED_COLORS.put(NativeComponentConverter.color(color), color);
+    }
+  }
+
+  private AdventureComponentConverter() {
+  }
+
+  /**
+   * Convert a native component and all of its siblings.
+   *
+   * <p>Wrapped components found anywhere in the tree are unwrapped rather than converted.</p>
+   *
+   * @param input the component to convert
+   * @return a new adventure component
+   * @throws NativeComponentConverter.UnsupportedContentException if some part of the tree cannot be converted directly
+   */
+  public @NotNull Component toAdventure(final net.minecraft.network.chat.@NotNull Component input) {
+    if (input instanceof WrappedComponent wrapped) {
+      return wrapped.wrapped();
+    }
+
+    final ComponentBuilder<?, ?> builder = this.builder(input.getContents());
+    builder.style(this.style(input.getStyle()));
+    for (final net.minecraft.network.chat.Component sibling : input.getSiblings()) {
+      builder.append(this.toAdventure(sibling));
+    }
+    return builder.build();
+  }
+
+  private ComponentBuilder<?, ?> builder(final ComponentContents contents) {
+    if (contents instanceof PlainTextContents text) {
+      return Component.text().content(text.text());
+    } else if (contents instanceof TranslatableContents translatable) {
+      final Object[] args = translatable.getArgs();
+      final TranslationArgument[] arguments = new TranslationArgument[args.length];
+      for (int i = 0; i < args.length; i++) {
+        arguments[i] = this.argument(args[i]);
+      }
+      return Component.translatable()
+        .key(translatable.getKey())
+        .fallback(translatable.getFallback())
+        .arguments(arguments);
+    } else if (contents instanceof KeybindContents keybind) {
+      return Component.keybind().keybind(keybind.getName());
+    } else if (contents instanceof ScoreContents score) {
+      return Component.score().name(score.getName()).objective(score.getObjective());
+    } else if (contents instanceof SelectorContents selector) {
+      return Component.selector().pattern(selector.getPattern()).separator(this.optional(selector.getSeparator()));
+    } else if (contents instanceof NbtContents nbt) {
+      return this.nbt(nbt);
+    }
+
+    throw new NativeComponentConverter.UnsupportedContentException("contents type " + contents.getClass().getName());
+  }
+
+  private TranslationArgument argument(final Object arg) {
+    if (arg instanceof net.minecraft.network.chat.Component component) {
+      return TranslationArgument.component(this.toAdventure(component));
+    } else if (arg instanceof Number number) {
+      return TranslationArgument.numeric(number);
+    } else if (arg instanceof Boolean bool) {
+      return TranslationArgument.bool(bool);
+    } else {
+      return TranslationArgument.component(Component.text(String.valueOf(arg)));
+    }
+  }
+
+  private ComponentBuilder<?, ?> nbt(final NbtContents nbt) {
+    final DataSource source = nbt.getDataSource();
+    final @Nullable Component separator = this.optional(nbt.getSeparator());
+    if (source instanceof BlockDataSource block) {
+      final BlockNBTComponent.Pos pos;
+      try {
+        pos = BlockNBTComponent.Pos.fromString(block.posPattern());
+      } catch (final IllegalArgumentException ex) {
+        throw new NativeComponentConverter.UnsupportedContentException("block position " + block.posPattern());
+      }
+      return Component.blockNBT().nbtPath(nbt.getNbtPath()).interpret(nbt.isInterpreting()).separator(separator).pos(pos);
+    } else if (source instanceof EntityDataSource entity) {
+      return Component.entityNBT().nbtPath(nbt.getNbtPath()).interpret(nbt.isInterpreting()).separator(separator).selector(entity.selectorPattern());
+    } else if (source instanceof StorageDataSource storage) {
+      return Component.storageNBT().nbtPath(nbt.getNbtPath()).interpret(nbt.isInterpreting()).separator(separator).storage(MinecraftAudiences.asAdventure(storage.id()));
+    }
+
+    throw new NativeComponentConverter.UnsupportedContentException("nbt data source " + source.getClass().getName());
+  }
+
+  private @Nullable Component optional(final Optional<net.minecraft.network.chat.Component> component) {
+    return component.isPresent() ? this.toAdventure(component.get()) : null;
+  }
+
+  /**
+   * Convert a native style into an Adventure style.
+   *
+   * @param style the native style
+   * @return the adventure style
+   * @throws NativeComponentConverter.UnsupportedContentException if some part of the style cannot be converted directly
+   */
+  public @NotNull Style style(final net.minecraft.network.chat.@NotNull Style style) {
+    if (style.isEmpty()) {
+      return Style.empty();
+    }
+    if (style.getHoverEvent() != null) {
+      return this.convertStyle(style);
+    }
+
+    @Nullable Style interned = STYLES.getIfPresent(style);
+    if (interned == null) {
+      interned = this.convertStyle(style);
+      STYLES.put(style, interned);
+    }
+    return interned;
+  }
+
+  private Style convertStyle(final net.minecraft.network.chat.Style style) {
+    final StyleAccess access = (StyleAccess) style;
+    final Style.Builder builder = Style.style()
+      .decoration(TextDecoration.BOLD, TextDecoration.State.byBoolean(access.accessor$bold()))
+      .decoration(TextDecoration.ITALIC, TextDecoration.State.byBoolean(access.accessor$italic()))
+      .decoration(TextDecoration.UNDERLINED, TextDecoration.State.byBoolean(access.accessor$underlined()))
+      .decoration(TextDecoration.STRIKETHROUGH, TextDecoration.State.byBoolean(access.accessor$strikethrough()))
+      .decoration(TextDecoration.OBFUSCATED, TextDecoration.State.byBoolean(access.accessor$obfuscated()))
+      .insertion(style.getInsertion());
+
+    final net.minecraft.network.chat.@Nullable TextColor color = style.getColor();
+    if (color != null) {
+      builder.color(color(color));
+    }
+
+    final @Nullable ResourceLocation font = access.accessor$font();
+    if (font != null) {
+      builder.font(MinecraftAudiences.asAdventure(font));
+    }
+
+    final net.minecraft.network.chat.@Nullable ClickEvent clickEvent = style.getClickEvent();
+    if (clickEvent != null) {
+      builder.clickEvent(ClickEvent.clickEvent(GameEnums.CLICK_ACTION.asAdventure(clickEvent.getAction()), clickEvent.getValue()));
+    }
+
+    final net.minecraft.network.chat.@Nullable HoverEvent hoverEvent = style.getHoverEvent();
+    if (hoverEvent != null) {
+      builder.hoverEvent(this.hoverEvent(hoverEvent));
+    }
+    return builder.build();
+  }
+
+  static TextColor color(final net.minecraft.network.chat.@NotNull TextColor color) {
+    final @Nullable NamedTextColor named = NAMED_COLORS.get(color);
+    return named != null ? named : TextColor.color(color.getValue());
+  }
+
+  private HoverEvent<?> hoverEvent(final net.minecraft.network.chat.HoverEvent event) {
+    final net.minecraft.network.chat.HoverEvent.Action<?> action = event.getAction();
+    if (action == net.minecraft.network.chat.HoverEvent.Action.SHOW_TEXT) {
+      return HoverEvent.showText(this.toAdventure(event.getValue(net.minecraft.network.chat.HoverEvent.Action.SHOW_TEXT)));
+    } else if (action == net.minecraft.network.chat.HoverEvent.Action.SHOW_ITEM) {
+      return MinecraftAudiences.asHoverEvent(event.getValue(net.minecraft.network.chat.HoverEvent.Action.SHOW_ITEM).getItemStack());
+    } else if (action == net.minecraft.network.chat.HoverEvent.Action.SHOW_ENTITY) {
+      final net.minecraft.network.chat.HoverEvent.EntityTooltipInfo entity = event.getValue(net.minecraft.network.chat.HoverEvent.Action.SHOW_ENTITY);
+      final Key type = MinecraftAudiences.asAdventure(BuiltInRegistries.ENTITY_TYPE.getKey(entity.type));
+      return HoverEvent.showEntity(type, entity.id, this.optional(entity.name));
+    }
+
+    throw new NativeComponentConverter.UnsupportedContentException("hover event action " + action.getSerializedName());
+  }
+}
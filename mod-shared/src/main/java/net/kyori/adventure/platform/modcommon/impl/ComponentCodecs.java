@@ -23,7 +23,6 @@
  */
 package net.kyori.adventure.platform.modcommon.impl;
 
-import com.google.gson.JsonElement;
 import com.mojang.datafixers.util.Pair;
 import com.mojang.serialization.Codec;
 import com.mojang.serialization.DataResult;
@@ -31,9 +30,11 @@ import com.mojang.serialization.DynamicOps;
 import com.mojang.serialization.JsonOps;
 import com.mojang.serialization.Lifecycle;
 import io.netty.buffer.ByteBuf;
+import java.util.List;
 import net.kyori.adventure.platform.modcommon.impl.server.FriendlyByteBufBridge;
 import net.kyori.adventure.pointer.Pointered;
-import net.kyori.adventure.text.serializer.gson.GsonComponentSerializer;
+import net.minecraft.nbt.Tag;
+import net.minecraft.network.RegistryFriendlyByteBuf;
 import net.minecraft.network.chat.Component;
 import net.minecraft.network.codec.StreamCodec;
 import net.minecraft.resources.RegistryOps;
@@ -45,6 +46,12 @@ import org.jetbrains.annotations.Nullable;
  * <p>These should not be referenced directly.</p>
  */
 public final class ComponentCodecs {
+  // the start of an unnamed compound tag {"text": "", "extra": [<compounds>...]}, followed by the number of list elements
+  private static final byte[] PARTS_HEADER = {
+    Tag.TAG_COMPOUND,
+    Tag.TAG_STRING, 0, 4, 't', 'e', 'x', 't', 0, 0,
+    Tag.TAG_LIST, 0, 5, 'e', 'x', 't', 'r', 'a', Tag.TAG_COMPOUND
+  };
 
   private ComponentCodecs() {
   }
@@ -59,14 +66,13 @@ public final class ComponentCodecs {
             return original.encode(w.deepConvertedIfPresent(), ops, prefix);
           }
 
-          final JsonElement json = GsonComponentSerializer.gson().serializeToTree(w.wrapped());
-          if (ops instanceof JsonOps) {
-            return DataResult.success((T) json);
-          } else if (ops instanceof RegistryOps<?> && ops instanceof DelegatingOpsBridge deleg && deleg.adventure$bridge$delegate() instanceof JsonOps) {
-            return DataResult.success((T) json);
-          } else {
-            return DataResult.success(JsonOps.INSTANCE.convertTo(ops, json));
+          if (isJson(ops)) {
+            return DataResult.success((T) w.json());
           }
+
+          // Any other format (such as NBT on the network) would need the json tree converted again,
+          // so walk the adventure tree into a native component and let the vanilla codec write it out directly.
+          return original.encode(w.deepConverted(), ops, prefix);
         }
 
         return original.encode(input, ops, prefix);
@@ -79,6 +85,13 @@ public final class ComponentCodecs {
     }.withLifecycle(Lifecycle.stable());
   }
 
+  private static boolean isJson(final DynamicOps<?> ops) {
+    if (ops instanceof JsonOps) {
+      return true;
+    }
+    return ops instanceof RegistryOps<?> && ops instanceof DelegatingOpsBridge deleg && deleg.adventure$bridge$delegate() instanceof JsonOps;
+  }
+
   public static <T extends ByteBuf> StreamCodec<T, Component> translatingStreamCodec(final StreamCodec<T, Component> original) {
     return new StreamCodec<>() {
       @Override
@@ -91,13 +104,67 @@ public final class ComponentCodecs {
         if (buf instanceof FriendlyByteBufBridge) {
           final @Nullable Pointered adventure$data = ((FriendlyByteBufBridge) buf).adventure$data();
           if (adventure$data != null && component instanceof WrappedComponent input) {
-            original.encode(buf, input.rendered(adventure$data));
+            final @Nullable List<WrappedComponent> parts = input.parts();
+            if (parts != null && input.partition() != null) {
+              this.encodeParts(buf, parts, adventure$data);
+              return;
+            }
+
+            final WrappedComponent rendered = input.rendered(adventure$data);
+            if (input.partition() == null) {
+              // rendered fresh for this buffer, nobody else will see it
+              original.encode(buf, rendered);
+            } else {
+              this.encodeShared(buf, rendered);
+            }
             return;
           }
         }
 
         original.encode(buf, component);
       }
+
+      // Rendered components are shared by every connection in the same partition, so the bytes written for one can be copied for the rest
+      private void encodeShared(final T buf, final WrappedComponent rendered) {
+        buf.writeBytes(this.sharedBytes(buf, rendered));
+      }
+
+      private byte[] sharedBytes(final T buf, final WrappedComponent rendered) {
+        final @Nullable Object registries = buf instanceof RegistryFriendlyByteBuf registryBuf ? registryBuf.registryAccess() : null;
+        final byte @Nullable [] cached = rendered.encoded(this, registries);
+        if (cached != null) {
+          return cached;
+        }
+
+        // encode in place to get the right buffer type, then take the bytes back out
+        final int start = buf.writerIndex();
+        original.encode(buf, rendered);
+        final byte[] written = new byte[buf.writerIndex() - start];
+        buf.getBytes(start, written);
+        buf.writerIndex(start);
+        rendered.encoded(this, registries, written);
+        return written;
+      }
+
+      // Write the tag vanilla would produce for the concatenation of the parts, splicing in the shared bytes of each rendered part
+      private void encodeParts(final T buf, final List<WrappedComponent> parts, final Pointered viewer) {
+        buf.writeBytes(PARTS_HEADER);
+        buf.writeInt(parts.size());
+        for (final WrappedComponent part : parts) {
+          final byte[] tag = this.sharedBytes(buf, part.rendered(viewer));
+          // list elements are written without a type id, and must all be compounds
+          if (tag[0] == Tag.TAG_COMPOUND) {
+            buf.writeBytes(tag, 1, tag.length - 1);
+          } else {
+            // store anything else under an empty key, as NbtOps does for mixed lists
+            buf.writeByte(tag[0]);
+            buf.writeShort(0);
+            buf.writeBytes(tag, 1, tag.length - 1);
+            buf.writeByte(Tag.TAG_END);
+          }
+        }
+        buf.writeByte(Tag.TAG_END);
+      }
     };
   }
 }
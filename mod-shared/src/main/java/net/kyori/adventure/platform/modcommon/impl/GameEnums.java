@@ -30,6 +30,7 @@ import net.kyori.adventure.bossbar.BossBar;
 import net.kyori.adventure.resource.ResourcePackStatus;
 import net.kyori.adventure.sound.Sound;
 import net.kyori.adventure.util.Index;
+import net.minecraft.network.chat.ClickEvent;
 import net.minecraft.network.protocol.common.ServerboundResourcePackPacket;
 import net.minecraft.sounds.SoundSource;
 import net.minecraft.world.BossEvent;
@@ -64,6 +65,13 @@ public final class GameEnums {
     Index.create(ResourcePackStatus.class, ResourcePackStatus::name)
   );
 
+  public static final MappedRegistry<ClickEvent.Action, net.kyori.adventure.text.event.ClickEvent.Action> CLICK_ACTION = MappedRegistry.named(
+    ClickEvent.Action.class,
+    byNameProvider(ClickEvent.Action.class, ClickEvent.Action::getSerializedName),
+    net.kyori.adventure.text.event.ClickEvent.Action.class,
+    net.kyori.adventure.text.event.ClickEvent.Action.NAMES
+  );
+
   private static <E extends Enum<E>> Function<String, @Nullable E> byNameProvider(final Class<E> clazz, final Function<E, String> nameProvider) {
     final Map<String, E> sources = new HashMap<>();
     for (final E element : clazz.getEnumConstants()) {
@@ -0,0 +1,382 @@
+/*
+ * This file is part of adventure-platform-mod, licensed under the MIT License.
+ *
+ * Copyright (c) 2020-2024 KyoriPowered
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.kyori.adventure.platform.modcommon.impl;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.collect.MapMaker;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Supplier;
+import net.kyori.adventure.key.Key;
+import net.kyori.adventure.platform.modcommon.MinecraftAudiences;
+import net.kyori.adventure.platform.modcommon.impl.nbt.ModDataComponentValue;
+import net.kyori.adventure.text.BlockNBTComponent;
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.EntityNBTComponent;
+import net.kyori.adventure.text.KeybindComponent;
+import net.kyori.adventure.text.NBTComponent;
+import net.kyori.adventure.text.ScoreComponent;
+import net.kyori.adventure.text.SelectorComponent;
+import net.kyori.adventure.text.StorageNBTComponent;
+import net.kyori.adventure.text.TextComponent;
+import net.kyori.adventure.text.TranslatableComponent;
+import net.kyori.adventure.text.TranslationArgument;
+import net.kyori.adventure.text.event.DataComponentValue;
+import net.kyori.adventure.text.format.NamedTextColor;
+import net.kyori.adventure.text.format.TextDecoration;
+import net.minecraft.ChatFormatting;
+import net.minecraft.core.Holder;
+import net.minecraft.core.HolderLookup;
+import net.minecraft.core.component.DataComponentPatch;
+import net.minecraft.core.component.DataComponentType;
+import net.minecraft.core.registries.BuiltInRegistries;
+import net.minecraft.core.registries.Registries;
+import net.minecraft.network.chat.ClickEvent;
+import net.minecraft.network.chat.ComponentContents;
+import net.minecraft.network.chat.HoverEvent;
+import net.minecraft.network.chat.MutableComponent;
+import net.minecraft.network.chat.Style;
+import net.minecraft.network.chat.TextColor;
+import net.minecraft.network.chat.contents.BlockDataSource;
+import net.minecraft.network.chat.contents.DataSource;
+import net.minecraft.network.chat.contents.EntityDataSource;
+import net.minecraft.network.chat.contents.KeybindContents;
+import net.minecraft.network.chat.contents.NbtContents;
+import net.minecraft.network.chat.contents.PlainTextContents;
+import net.minecraft.network.chat.contents.ScoreContents;
+import net.minecraft.network.chat.contents.SelectorContents;
+import net.minecraft.network.chat.contents.StorageDataSource;
+import net.minecraft.network.chat.contents.TranslatableContents;
+import net.minecraft.resources.ResourceKey;
+import net.minecraft.world.entity.EntityType;
+import net.minecraft.world.item.Item;
+import net.minecraft.world.item.ItemStack;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Converts Adventure components into native components by walking the component tree directly.
+ *
+ * <p>Anything that can only be represented by going through the JSON format (such as legacy
+ * item NBT in hover events) will cause an {@link UnsupportedContentException} to be thrown,
+ * and callers are expected to fall back to a JSON-based conversion.</p>
+ */
+public final class NativeComponentConverter {
+  /**
+   * The maximum number of distinct styles to keep shared instances of, in each direction.
+   */
+  static final int MAX_INTERNED_STYLES = 1024;
+
+  private static final Object[] NO_ARGS = new Object[0];
+  private static final Map<NamedTextColor, TextColor> NAMED_COLORS = new HashMap<>();
+  // servers tend to use a small set of distinct styles, so share a single native instance for each
+  private static final Cache<net.kyori.adventure.text.format.Style, Style> STYLES = CacheBuilder.newBuilder()
+    .maximumSize(MAX_INTERNED_STYLES)
+    .build();
+
+  static {
+    for (final NamedTextColor color : NamedTextColor.NAMES.values()) {
+      final @Nullable ChatFormatting formatting = ChatFormatting.getByName(NamedTextColor.NAMES.key(color));
+      if (formatting == null) {
+        throw new ExceptionInInitializerError("Unknown MC formatting for Adventure color " + color);
+      }
+      NAMED_COLORS.put(color, TextColor.fromLegacyFormat(formatting));
+    }
+  }
+
+  private final Supplier<HolderLookup.@NotNull Provider> holderProvider;
+  // constant parts of messages (prefixes, headers, tooltips) are usually the same adventure instance every time
+  private final Map<Component, MutableComponent> subtrees = new MapMaker().weakKeys().makeMap();
+
+  public NativeComponentConverter(final @NotNull Supplier<HolderLookup.@NotNull Provider> holderProvider) {
+    this.holderProvider = holderProvider;
+  }
+
+  /**
+   * Convert a component that is nothing but unstyled text, without involving any converter state.
+   *
+   * <p>Such components are left untouched by translation, so they need neither wrapping nor rendering.
+   * The result is never shared: vanilla only has mutable components, and one that compares equal to a vanilla literal
+   * must be a {@link MutableComponent}. Creating the literal costs about as much as looking up a cached one.</p>
+   *
+   * @param input the component to convert
+   * @return a new literal native component, or {@code null} if the input has any style or children
+   */
+  public static @Nullable MutableComponent plainText(final @NotNull Component input) {
+    if (input instanceof TextComponent text && input.children().isEmpty() && input.style().isEmpty()) {
+      return MutableComponent.create(PlainTextContents.create(text.content()));
+    }
+    return null;
+  }
+
+  /**
+   * Convert an Adventure component and all of its children.
+   *
+   * @param input the component to convert
+   * @return a new native component
+   * @throws UnsupportedContentException if some part of the tree cannot be converted directly
+   */
+  public @NotNull MutableComponent toNative(final @NotNull Component input) {
+    final MutableComponent result = MutableComponent.create(this.contents(input));
+    result.setStyle(this.style(input.style()));
+    final List<Component> children = input.children();
+    if (ParallelConversion.shouldSplit(children.size())) {
+      for (final MutableComponent child : ParallelConversion.<Component, MutableComponent>map(children, this::subtree)) {
+        result.append(child);
+      }
+    } else {
+      for (final Component child : children) {
+        result.append(this.subtree(child));
+      }
+    }
+    return result;
+  }
+
+  /**
+   * Convert part of a larger component, reusing the conversion of every other tree containing the same instance.
+   *
+   * <p>Only the immutable contents and styles are shared. The mutable nodes around them are rebuilt for every use,
+   * so changes made to one result can never show up in another.</p>
+   *
+   * @param input the nested component
+   * @return a new native component
+   */
+  private MutableComponent subtree(final Component input) {
+    if (input.children().isEmpty() && input.style().isEmpty()) {
+      return this.toNative(input); // cheaper to convert than to look up
+    }
+
+    @Nullable MutableComponent template = this.subtrees.get(input);
+    if (template == null) {
+      // never handed out, so it stays exactly as converted
+      template = this.toNative(input);
+      this.subtrees.put(input, template);
+    }
+    return deepCopy(template);
+  }
+
+  /**
+   * Copy every node of a native component tree, keeping the immutable contents and styles of the original.
+   *
+   * <p>Unlike {@link net.minecraft.network.chat.Component#copy()}, no sibling is shared with the original.</p>
+   *
+   * @param original the tree to copy
+   * @return a new native component
+   */
+  public static @NotNull MutableComponent deepCopy(final net.minecraft.network.chat.@NotNull Component original) {
+    final MutableComponent result = MutableComponent.create(original.getContents()).setStyle(original.getStyle());
+    for (final net.minecraft.network.chat.Component sibling : original.getSiblings()) {
+      result.append(deepCopy(sibling));
+    }
+    return result;
+  }
+
+  private ComponentContents contents(final Component input) {
+    if (input instanceof TextComponent text) {
+      return PlainTextContents.create(text.content());
+    } else if (input instanceof TranslatableComponent translatable) {
+      return new TranslatableContents(translatable.key(), translatable.fallback(), this.arguments(translatable.arguments()));
+    } else if (input instanceof KeybindComponent keybind) {
+      return new KeybindContents(keybind.keybind());
+    } else if (input instanceof ScoreComponent score) {
+      return new ScoreContents(score.name(), score.objective());
+    } else if (input instanceof SelectorComponent selector) {
+      return new SelectorContents(selector.pattern(), this.optional(selector.separator()));
+    } else if (input instanceof NBTComponent<?, ?> nbt) {
+      return new NbtContents(nbt.nbtPath(), nbt.interpret(), this.optional(nbt.separator()), dataSource(nbt));
+    }
+
+    throw new UnsupportedContentException("component type " + input.getClass().getName());
+  }
+
+  private Object[] arguments(final List<TranslationArgument> arguments) {
+    if (arguments.isEmpty()) {
+      return NO_ARGS;
+    }
+
+    final Object[] result = new Object[arguments.size()];
+    for (int i = 0; i < result.length; i++) {
+      final Object value = arguments.get(i).value();
+      result[i] = value instanceof Component component ? this.subtree(component) : value;
+    }
+    return result;
+  }
+
+  private Optional<net.minecraft.network.chat.Component> optional(final @Nullable Component component) {
+    return component == null ? Optional.empty() : Optional.of(this.subtree(component));
+  }
+
+  private static DataSource dataSource(final NBTComponent<?, ?> nbt) {
+    if (nbt instanceof BlockNBTComponent block) {
+      return new BlockDataSource(block.pos().asString());
+    } else if (nbt instanceof EntityNBTComponent entity) {
+      return new EntityDataSource(entity.selector());
+    } else if (nbt instanceof StorageNBTComponent storage) {
+      return new StorageDataSource(MinecraftAudiences.asNative(storage.storage()));
+    }
+
+    throw new UnsupportedContentException("nbt component type " + nbt.getClass().getName());
+  }
+
+  /**
+   * Convert an Adventure style into a native style.
+   *
+   * @param style the adventure style
+   * @return the native style
+   * @throws UnsupportedContentException if some part of the style cannot be converted directly
+   */
+  public @NotNull Style style(final net.kyori.adventure.text.format.@NotNull Style style) {
+    if (style.isEmpty()) {
+      return Style.EMPTY;
+    }
+    if (style.hoverEvent() != null) {
+      // hover contents are rarely repeated, and may depend on registries
+      return this.convertStyle(style);
+    }
+
+    @Nullable Style interned = STYLES.getIfPresent(style);
+    if (interned == null) {
+      interned = this.convertStyle(style);
+      STYLES.put(style, interned);
+    }
+    return interned;
+  }
+
+  private Style convertStyle(final net.kyori.adventure.text.format.Style style) {
+    Style result = Style.EMPTY;
+    final net.kyori.adventure.text.format.@Nullable TextColor color = style.color();
+    if (color != null) {
+      result = result.withColor(color(color));
+    }
+    result = result
+      .withBold(decoration(style, TextDecoration.BOLD))
+      .withItalic(decoration(style, TextDecoration.ITALIC))
+      .withUnderlined(decoration(style, TextDecoration.UNDERLINED))
+      .withStrikethrough(decoration(style, TextDecoration.STRIKETHROUGH))
+      .withObfuscated(decoration(style, TextDecoration.OBFUSCATED));
+
+    final @Nullable Key font = style.font();
+    if (font != null) {
+      result = result.withFont(MinecraftAudiences.asNative(font));
+    }
+    if (style.insertion() != null) {
+      result = result.withInsertion(style.insertion());
+    }
+
+    final net.kyori.adventure.text.event.@Nullable ClickEvent clickEvent = style.clickEvent();
+    if (clickEvent != null) {
+      result = result.withClickEvent(new ClickEvent(GameEnums.CLICK_ACTION.toMinecraft(clickEvent.action()), clickEvent.value()));
+    }
+
+    final net.kyori.adventure.text.event.@Nullable HoverEvent<?> hoverEvent = style.hoverEvent();
+    if (hoverEvent != null) {
+      result = result.withHoverEvent(this.hoverEvent(hoverEvent));
+    }
+    return result;
+  }
+
+  static TextColor color(final net.kyori.adventure.text.format.@NotNull TextColor color) {
+    if (color instanceof NamedTextColor named) {
+      return NAMED_COLORS.get(named);
+    }
+    return TextColor.fromRgb(color.value());
+  }
+
+  private static @Nullable Boolean decoration(final net.kyori.adventure.text.format.Style style, final TextDecoration decoration) {
+    return switch (style.decoration(decoration)) {
+      case TRUE -> Boolean.TRUE;
+      case FALSE -> Boolean.FALSE;
+      case NOT_SET -> null;
+    };
+  }
+
+  @SuppressWarnings("deprecation") // legacy item nbt
+  private HoverEvent hoverEvent(final net.kyori.adventure.text.event.HoverEvent<?> event) {
+    final net.kyori.adventure.text.event.HoverEvent.Action<?> action = event.action();
+    if (action == net.kyori.adventure.text.event.HoverEvent.Action.SHOW_TEXT) {
+      return new HoverEvent(HoverEvent.Action.SHOW_TEXT, this.subtree((Component) event.value()));
+    } else if (action == net.kyori.adventure.text.event.HoverEvent.Action.SHOW_ENTITY) {
+      final net.kyori.adventure.text.event.HoverEvent.ShowEntity entity = (net.kyori.adventure.text.event.HoverEvent.ShowEntity) event.value();
+      final EntityType<?> type = BuiltInRegistries.ENTITY_TYPE.getOptional(MinecraftAudiences.asNative(entity.type()))
+        .orElseThrow(() -> new UnsupportedContentException("entity type " + entity.type().asString()));
+      return new HoverEvent(HoverEvent.Action.SHOW_ENTITY, new HoverEvent.EntityTooltipInfo(
+        type,
+        entity.id(),
+        entity.name() == null ? null : this.subtree(entity.name())
+      ));
+    } else if (action == net.kyori.adventure.text.event.HoverEvent.Action.SHOW_ITEM) {
+      final net.kyori.adventure.text.event.HoverEvent.ShowItem item = (net.kyori.adventure.text.event.HoverEvent.ShowItem) event.value();
+      if (item.nbt() != null) {
+        throw new UnsupportedContentException("legacy item nbt");
+      }
+
+      final Holder<Item> type = this.holderProvider.get().lookupOrThrow(Registries.ITEM).get(ResourceKey.create(Registries.ITEM, MinecraftAudiences.asNative(item.item())))
+        .orElseThrow(() -> new UnsupportedContentException("item type " + item.item().asString()));
+      return new HoverEvent(HoverEvent.Action.SHOW_ITEM, new HoverEvent.ItemStackInfo(new ItemStack(type, item.count(), this.dataComponents(item.dataComponents()))));
+    }
+
+    throw new UnsupportedContentException("hover event action " + action);
+  }
+
+  @SuppressWarnings({"rawtypes", "unchecked"})
+  private DataComponentPatch dataComponents(final Map<Key, DataComponentValue> components) {
+    if (components.isEmpty()) {
+      return DataComponentPatch.EMPTY;
+    }
+
+    final DataComponentPatch.Builder builder = DataComponentPatch.builder();
+    for (final Map.Entry<Key, DataComponentValue> entry : components.entrySet()) {
+      final @Nullable DataComponentType type = BuiltInRegistries.DATA_COMPONENT_TYPE.get(MinecraftAudiences.asNative(entry.getKey()));
+      if (type == null) {
+        throw new UnsupportedContentException("data component type " + entry.getKey().asString());
+      }
+
+      // Gson and SNBT values can only be decoded without registries here, which fails for registry-backed components,
+      // so leave those to the JSON path where the registries are available.
+      final DataComponentValue value = entry.getValue();
+      if (value instanceof ModDataComponentValue.Present<?> present) {
+        builder.set(type, present.value());
+      } else if (value instanceof DataComponentValue.Removed) {
+        builder.remove(type);
+      } else {
+        throw new UnsupportedContentException("data component value " + value.getClass().getName());
+      }
+    }
+    return builder.build();
+  }
+
+  /**
+   * Thrown when a component cannot be converted without going through the JSON format.
+   */
+  public static final class UnsupportedContentException extends RuntimeException {
+    private static final long serialVersionUID = -5627093021873102842L;
+
+    UnsupportedContentException(final String what) {
+      super("Unable to directly convert " + what, null, false, false);
+    }
+  }
+}
@@ -25,7 +25,10 @@ package net.kyori.adventure.platform.modcommon.impl;
 
 import com.google.common.base.Suppliers;
 import com.google.gson.JsonParseException;
+import com.mojang.logging.LogUtils;
 import com.mojang.serialization.JsonOps;
+import java.util.Arrays;
+import java.util.Locale;
 import java.util.function.Supplier;
 import net.kyori.adventure.text.Component;
 import net.kyori.adventure.text.serializer.ComponentSerializer;
@@ -36,12 +39,21 @@ import net.minecraft.core.registries.BuiltInRegistries;
 import net.minecraft.network.chat.ComponentSerialization;
 import net.minecraft.network.chat.MutableComponent;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.slf4j.Logger;
 
 public final class NonWrappingComponentSerializer implements ComponentSerializer<Component, Component, net.minecraft.network.chat.Component> {
   public static final NonWrappingComponentSerializer INSTANCE = new NonWrappingComponentSerializer();
+  private static final Logger LOGGER = LogUtils.getLogger();
+
+  /**
+   * The strategy used to convert between Adventure and native components, controlled by the {@code adventure.componentConversion} system property.
+   */
+  static final ConversionMode CONVERSION_MODE = conversionMode(System.getProperty("adventure.componentConversion"));
 
   private static final ThreadLocal<Boolean> BYPASS_IS_ALLOWED_FROM_SERVER = ThreadLocal.withInitial(() -> false);
   private final Supplier<HolderLookup.@NotNull Provider> holderProvider;
+  private final NativeComponentConverter toNative;
 
   private NonWrappingComponentSerializer() {
     this(Suppliers.ofInstance(RegistryAccess.fromRegistryOfRegistries(BuiltInRegistries.REGISTRY)));
@@ -49,6 +61,7 @@ public final class NonWrappingComponentSerializer implements ComponentSerializer
 
   public NonWrappingComponentSerializer(final @NotNull Supplier<HolderLookup.@NotNull Provider> provider) {
     this.holderProvider = provider;
+    this.toNative = new NativeComponentConverter(provider);
   }
 
   public static boolean bypassIsAllowedFromServer() {
@@ -61,6 +74,18 @@ public final class NonWrappingComponentSerializer implements ComponentSerializer
       return ((WrappedComponent) input).wrapped();
     }
 
+    if (CONVERSION_MODE == ConversionMode.DIRECT) {
+      try {
+        return AdventureComponentConverter.INSTANCE.toAdventure(input);
+      } catch (final NativeComponentConverter.UnsupportedContentException ex) {
+        // fall through to the codec path
+      }
+    }
+
+    return this.deserializeViaJson(input);
+  }
+
+  private Component deserializeViaJson(final net.minecraft.network.chat.Component input) {
     return GsonComponentSerializer.gson().deserializeFromTree(
       ComponentSerialization.CODEC.encodeStart(this.holderProvider.get().createSerializationContext(JsonOps.INSTANCE), input)
         .getOrThrow(JsonParseException::new)
@@ -69,6 +94,18 @@ public final class NonWrappingComponentSerializer implements ComponentSerializer
 
   @Override
   public MutableComponent serialize(final Component component) {
+    if (CONVERSION_MODE == ConversionMode.DIRECT) {
+      try {
+        return this.toNative.toNative(component);
+      } catch (final NativeComponentConverter.UnsupportedContentException ex) {
+        // fall through to the json path
+      }
+    }
+
+    return this.serializeViaJson(component);
+  }
+
+  private MutableComponent serializeViaJson(final Component component) {
     BYPASS_IS_ALLOWED_FROM_SERVER.set(true);
     final MutableComponent mutableComponent;
     try {
@@ -78,4 +115,28 @@ public final class NonWrappingComponentSerializer implements ComponentSerializer
     }
     return mutableComponent;
   }
+
+  private static ConversionMode conversionMode(final @Nullable String value) {
+    if (value == null) {
+      return ConversionMode.DIRECT;
+    }
+
+    try {
+      return ConversionMode.valueOf(value.toUpperCase(Locale.ROOT));
+    } catch (final IllegalArgumentException ex) {
+      LOGGER.warn("Unknown component conversion mode '{}', expected one of {}. Falling back to {}", value, Arrays.toString(ConversionMode.values()), ConversionMode.DIRECT);
+      return ConversionMode.DIRECT;
+    }
+  }
+
+  enum ConversionMode {
+    /**
+     * Walk the component tree directly, falling back to JSON for unsupported content.
+     */
+    DIRECT,
+    /**
+     * Always round-trip through the JSON format.
+     */
+    JSON
+  }
 }
@@ -0,0 +1,138 @@
+/*
+ * This file is part of adventure-platform-mod, licensed under the MIT License.
+ *
+ * Copyright (c) 2020-2024 KyoriPowered
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.kyori.adventure.platform.modcommon.impl;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.Function;
+import net.kyori.adventure.pointer.Pointered;
+import net.minecraft.network.chat.Component;
+
+/**
+ * Optionally spreads the conversion of large component lists (book pages, children of huge components) over a fork-join pool.
+ *
+ * <p>Disabled unless the {@code adventure.parallelConversion} system property is set to {@code true}.
+ * Lists smaller than {@code adventure.parallelConversion.threshold} (default {@value #DEFAULT_THRESHOLD}) are always converted on the calling thread.</p>
+ */
+public final class ParallelConversion {
+  static final int DEFAULT_THRESHOLD = 32;
+  private static final boolean ENABLED = Boolean.getBoolean("adventure.parallelConversion");
+  private static final int THRESHOLD = Math.max(2, Integer.getInteger("adventure.parallelConversion.threshold", DEFAULT_THRESHOLD));
+  // the smallest slice of a list handed to a single task
+  private static final int LEAF_SIZE = 4;
+
+  private ParallelConversion() {
+  }
+
+  /**
+   * Get whether a list of the provided size should be converted in parallel.
+   *
+   * @param size the number of elements to convert
+   * @return whether to use {@link #map(List, Function)}
+   */
+  public static boolean shouldSplit(final int size) {
+    return ENABLED && size >= THRESHOLD;
+  }
+
+  /**
+   * Apply a function to every element of a list, splitting the work across the conversion pool.
+   *
+   * <p>Ordering of the results matches the input, and any exception thrown by the function is rethrown to the caller.</p>
+   *
+   * @param inputs the elements to convert
+   * @param function the conversion, which must be safe to call from multiple threads at once
+   * @param <T> the input type
+   * @param <R> the result type
+   * @return an immutable list of results
+   */
+  @SuppressWarnings("unchecked")
+  public static <T, R> List<R> map(final List<? extends T> inputs, final Function<? super T, ? extends R> function) {
+    final Object[] results = new Object[inputs.size()];
+    final MapTask<T> task = new MapTask<>(inputs, function, results, 0, results.length);
+    if (ForkJoinTask.inForkJoinPool()) {
+      task.invoke(); // nested split, let the current pool pick up the subtasks
+    } else {
+      Pool.INSTANCE.invoke(task);
+    }
+    return (List<R>) List.copyOf(Arrays.asList(results));
+  }
+
+  /**
+   * Render and convert a native component for a viewer ahead of time, so that later encoding only finds cached results.
+   *
+   * @param component a component returned by {@code asNative}
+   * @param viewer the viewer the component will be shown to
+   * @return the same component
+   */
+  public static Component preconverted(final Component component, final Pointered viewer) {
+    if (component instanceof WrappedComponent wrapped) {
+      wrapped.rendered(viewer).deepConverted();
+    }
+    return component;
+  }
+
+  private static final class Pool {
+    // only created once parallel conversion is actually used
+    static final ForkJoinPool INSTANCE = new ForkJoinPool(Runtime.getRuntime().availableProcessors(), pool -> {
+      final var thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+      thread.setName("adventure-platform-mod-conversion-" + thread.getPoolIndex());
+      return thread;
+    }, null, false);
+  }
+
+  private static final class MapTask<T> extends RecursiveAction {
+    private final List<? extends T> inputs;
+    private final Function<? super T, ?> function;
+    private final Object[] results;
+    private final int from;
+    private final int to;
+
+    MapTask(final List<? extends T> inputs, final Function<? super T, ?> function, final Object[] results, final int from, final int to) {
+      this.inputs = inputs;
+      this.function = function;
+      this.results = results;
+      this.from = from;
+      this.to = to;
+    }
+
+    @Override
+    protected void compute() {
+      if (this.to - this.from <= LEAF_SIZE) {
+        for (int i = this.from; i < this.to; i++) {
+          this.results[i] = this.function.apply(this.inputs.get(i));
+        }
+        return;
+      }
+
+      final int middle = (this.from + this.to) >>> 1;
+      invokeAll(
+        new MapTask<>(this.inputs, this.function, this.results, this.from, middle),
+        new MapTask<>(this.inputs, this.function, this.results, middle, this.to)
+      );
+    }
+  }
+}
@@ -0,0 +1,111 @@
+/*
+ * This file is part of adventure-platform-mod, licensed under the MIT License.
+ *
+ * Copyright (c) 2020-2024 KyoriPowered
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.kyori.adventure.platform.modcommon.impl;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import net.kyori.adventure.util.TriState;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Remembers permission decisions made by the platform's permission backend, per player and permission.
+ *
+ * <p>The cache is disabled unless the {@code adventure.permissionCache} system property is {@code true}. Decisions are grouped by player,
+ * so forgetting a player is a single removal. It holds at most {@code adventure.permissionCache.maximumSize} decisions per player, for at most
+ * as many players (default {@value #DEFAULT_MAXIMUM_SIZE}), each for {@code adventure.permissionCache.ttl} milliseconds if that property is set,
+ * or until invalidated otherwise.</p>
+ */
+public final class PermissionCache {
+  static final long DEFAULT_MAXIMUM_SIZE = 10_000;
+  /**
+   * Whether permission decisions and permission audiences are cached.
+   */
+  public static final boolean ENABLED = Boolean.getBoolean("adventure.permissionCache");
+  /**
+   * How long cached permission information stays valid, in milliseconds. Zero keeps it until the next invalidation.
+   */
+  public static final long TTL = Long.getLong("adventure.permissionCache.ttl", 0);
+  private static final long MAXIMUM_SIZE = Long.getLong("adventure.permissionCache.maximumSize", DEFAULT_MAXIMUM_SIZE);
+
+  private static final @Nullable Cache<UUID, Cache<String, TriState>> CACHE = ENABLED ? build() : null;
+
+  private PermissionCache() {
+  }
+
+  private static <K, V> Cache<K, V> build() {
+    final CacheBuilder<Object, Object> builder = CacheBuilder.newBuilder()
+      .maximumSize(MAXIMUM_SIZE);
+    if (TTL > 0) {
+      builder.expireAfterWrite(TTL, TimeUnit.MILLISECONDS);
+    }
+    return builder.build();
+  }
+
+  /**
+   * Get a permission decision, asking the backend only if it is not already known.
+   *
+   * @param player the player being checked
+   * @param permission the permission node
+   * @param check the backend check
+   * @return the decision
+   */
+  public static TriState get(final UUID player, final String permission, final Supplier<TriState> check) {
+    if (CACHE == null) {
+      return check.get();
+    }
+
+    final Cache<String, TriState> decisions = CACHE.asMap().computeIfAbsent(player, id -> build());
+    final @Nullable TriState existing = decisions.getIfPresent(permission);
+    if (existing != null) {
+      return existing;
+    }
+
+    final TriState result = check.get();
+    decisions.put(permission, result);
+    return result;
+  }
+
+  /**
+   * Forget every decision made for one player.
+   *
+   * @param player the player
+   */
+  public static void invalidate(final UUID player) {
+    if (CACHE != null) {
+      CACHE.invalidate(player);
+    }
+  }
+
+  /**
+   * Forget every decision.
+   */
+  public static void invalidateAll() {
+    if (CACHE != null) {
+      CACHE.invalidateAll();
+    }
+  }
+}
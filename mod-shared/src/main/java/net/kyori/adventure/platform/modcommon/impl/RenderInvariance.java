@@ -0,0 +1,90 @@
+/*
+ * This file is part of adventure-platform-mod, licensed under the MIT License.
+ *
+ * Copyright (c) 2020-2024 KyoriPowered
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.kyori.adventure.platform.modcommon.impl;
+
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.NBTComponent;
+import net.kyori.adventure.text.SelectorComponent;
+import net.kyori.adventure.text.TranslatableComponent;
+import net.kyori.adventure.text.event.HoverEvent;
+import net.kyori.adventure.text.format.Style;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Determines whether rendering a component with the global translator can ever change it.
+ *
+ * <p>The global translator only rewrites translatable components, so any tree that contains none
+ * (including within hover events and separators) renders to itself for every partition.</p>
+ */
+public final class RenderInvariance {
+  private RenderInvariance() {
+  }
+
+  /**
+   * Check whether a component tree is unaffected by translation.
+   *
+   * @param component the component to check
+   * @return whether the component renders identically for every viewer
+   */
+  public static boolean isTranslationInvariant(final @NotNull Component component) {
+    if (component instanceof TranslatableComponent) {
+      return false;
+    }
+    if (!isTranslationInvariant(component.style())) {
+      return false;
+    }
+    // separators are rendered along with the component they belong to
+    if (component instanceof NBTComponent<?, ?> nbt && !isAbsentOrTranslationInvariant(nbt.separator())) {
+      return false;
+    } else if (component instanceof SelectorComponent selector && !isAbsentOrTranslationInvariant(selector.separator())) {
+      return false;
+    }
+
+    for (final Component child : component.children()) {
+      if (!isTranslationInvariant(child)) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private static boolean isAbsentOrTranslationInvariant(final @Nullable Component component) {
+    return component == null || isTranslationInvariant(component);
+  }
+
+  private static boolean isTranslationInvariant(final Style style) {
+    final @Nullable HoverEvent<?> hover = style.hoverEvent();
+    if (hover == null) {
+      return true;
+    }
+
+    if (hover.value() instanceof Component text) {
+      return isTranslationInvariant(text);
+    } else if (hover.value() instanceof HoverEvent.ShowEntity entity) {
+      return isAbsentOrTranslationInvariant(entity.name());
+    }
+    return true;
+  }
+}
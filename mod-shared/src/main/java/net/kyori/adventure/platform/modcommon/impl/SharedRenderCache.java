@@ -0,0 +1,127 @@
+/*
+ * This file is part of adventure-platform-mod, licensed under the MIT License.
+ *
+ * Copyright (c) 2020-2024 KyoriPowered
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.kyori.adventure.platform.modcommon.impl;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheStats;
+import com.mojang.logging.LogUtils;
+import java.util.function.Supplier;
+import net.kyori.adventure.pointer.Pointered;
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.renderer.ComponentRenderer;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.slf4j.Logger;
+
+/**
+ * A server-wide cache of rendered components, shared between every {@link WrappedComponent}.
+ *
+ * <p>Equal components are often re-created for every message, and each new wrapper would otherwise render
+ * and convert from scratch. Entries are keyed by component equality and partition, so an equal component
+ * rendered for the same partition reuses the earlier result, including any native conversion already done.</p>
+ *
+ * <p>The cache is disabled unless the {@code adventure.renderCache.maximumSize} system property is set to a positive number.
+ * Its statistics are logged and all entries are discarded whenever a server stops, since cached components hold on to the
+ * provider, and through it the server, that created them.</p>
+ */
+public final class SharedRenderCache {
+  /**
+   * The maximum number of rendered components retained, or {@code 0} if the cache is disabled.
+   */
+  public static final long MAXIMUM_SIZE = Long.getLong("adventure.renderCache.maximumSize", 0);
+
+  private static final @Nullable Cache<Key, WrappedComponent> CACHE = MAXIMUM_SIZE <= 0 ? null : CacheBuilder.newBuilder()
+    .maximumSize(MAXIMUM_SIZE)
+    .recordStats()
+    .build();
+  private static final Logger LOGGER = LogUtils.getLogger();
+
+  private SharedRenderCache() {
+  }
+
+  /**
+   * Get whether the shared cache is in use.
+   *
+   * @return whether the cache is enabled
+   */
+  public static boolean enabled() {
+    return CACHE != null;
+  }
+
+  /**
+   * Get hit and miss statistics for the shared cache.
+   *
+   * @return current statistics, empty if the cache is disabled
+   */
+  public static @NotNull CacheStats stats() {
+    return CACHE == null ? new CacheStats(0, 0, 0, 0, 0, 0) : CACHE.stats();
+  }
+
+  /**
+   * Discard all cached renders.
+   */
+  public static void invalidateAll() {
+    if (CACHE != null) {
+      CACHE.invalidateAll();
+    }
+  }
+
+  /**
+   * Log statistics for the server that just stopped, and release everything rendered for it.
+   */
+  public static void serverStopped() {
+    if (CACHE != null) {
+      final CacheStats stats = CACHE.stats();
+      LOGGER.info("Shared render cache: {} hits, {} misses ({}% hit rate), {} evictions", stats.hitCount(), stats.missCount(), Math.round(stats.hitRate() * 100), stats.evictionCount());
+      CACHE.invalidateAll();
+    }
+  }
+
+  static WrappedComponent rendered(
+    final Component component,
+    final Object partition,
+    final ComponentRenderer<Pointered> renderer,
+    final NonWrappingComponentSerializer serializer,
+    final Supplier<WrappedComponent> render
+  ) {
+    if (CACHE == null) {
+      return render.get();
+    }
+
+    final Key key = new Key(component, partition, renderer, serializer);
+    final @Nullable WrappedComponent existing = CACHE.getIfPresent(key);
+    if (existing != null) {
+      return existing;
+    }
+
+    final WrappedComponent rendered = render.get();
+    CACHE.put(key, rendered);
+    return rendered;
+  }
+
+  // renderer and serializer are compared by identity, as they are owned by a single controller
+  private record Key(Component component, Object partition, ComponentRenderer<Pointered> renderer, NonWrappingComponentSerializer serializer) {
+  }
+}
@@ -23,34 +23,64 @@
  */
 package net.kyori.adventure.platform.modcommon.impl;
 
+import com.google.gson.JsonElement;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.function.Function;
 import net.kyori.adventure.pointer.Pointered;
 import net.kyori.adventure.pointer.Pointers;
 import net.kyori.adventure.text.TextComponent;
+import net.kyori.adventure.text.TranslatableComponent;
+import net.kyori.adventure.text.flattener.FlattenerListener;
 import net.kyori.adventure.text.renderer.ComponentRenderer;
+import net.kyori.adventure.text.serializer.gson.GsonComponentSerializer;
 import net.kyori.adventure.text.serializer.plain.PlainTextComponentSerializer;
 import net.minecraft.network.chat.Component;
 import net.minecraft.network.chat.ComponentContents;
 import net.minecraft.network.chat.MutableComponent;
 import net.minecraft.network.chat.Style;
 import net.minecraft.network.chat.contents.PlainTextContents;
+import net.minecraft.network.chat.contents.TranslatableContents;
 import net.minecraft.util.FormattedCharSequence;
 import org.checkerframework.checker.nullness.qual.NonNull;
 import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 public class WrappedComponent implements Component {
+  /**
+   * The maximum number of partitions to retain rendered components for, per wrapped component.
+   */
+  static final int MAX_RENDERED_PARTITIONS = 16;
+  private static final VarHandle RENDER_CACHE;
+  private static final LongAdder DUPLICATE_RENDERS = new LongAdder();
+
+  static {
+    try {
+      RENDER_CACHE = MethodHandles.lookup().findVarHandle(WrappedComponent.class, "renderCache", RenderCache.class);
+    } catch (final ReflectiveOperationException ex) {
+      throw new ExceptionInInitializerError(ex);
+    }
+  }
+
   protected Component converted;
   protected @Nullable Object deepConvertedLocalized = null;
   private final net.kyori.adventure.text.Component wrapped;
   private final @Nullable Function<Pointered, ?> partition;
   private final @Nullable ComponentRenderer<Pointered> renderer;
   private final @NonNull NonWrappingComponentSerializer nonWrappingSerializer;
-  private @Nullable Object lastData;
-  private @Nullable WrappedComponent lastRendered;
+  private volatile @Nullable RenderCache renderCache;
+  private volatile @Nullable EncodedBytes encoded;
+  private int hash;
+  private volatile @Nullable String string;
+  private @Nullable ComponentContents contents;
+  private volatile @Nullable JsonElement json;
+  private @Nullable List<WrappedComponent> parts;
 
   public WrappedComponent(
     final net.kyori.adventure.text.Component wrapped,
@@ -86,13 +116,113 @@ public class WrappedComponent implements Component {
     return this.wrapped;
   }
 
-  public synchronized WrappedComponent rendered(final Pointered ptr) {
-    final Object data = this.partition == null ? null : this.partition.apply(ptr);
-    if (this.lastData != null && Objects.equals(data, this.lastData)) {
-      return this.lastRendered;
+  /**
+   * Separately wrapped components that this component is the concatenation of, if known.
+   *
+   * <p>Encoders may write each part on its own, reusing what was already written for parts that are shared between messages.</p>
+   *
+   * @return the parts, if any
+   */
+  public @Nullable List<WrappedComponent> parts() {
+    return this.parts;
+  }
+
+  /**
+   * Declare this component to be a text component without content or style, whose children are the wrapped forms of {@code parts}.
+   *
+   * @param parts the parts
+   * @return this component
+   */
+  public WrappedComponent parts(final List<WrappedComponent> parts) {
+    this.parts = List.copyOf(parts);
+    return this;
+  }
+
+  /**
+   * Get the number of renders that were discarded because another thread published a result for the same partition first.
+   *
+   * @return the number of duplicate renders
+   */
+  public static long duplicateRenders() {
+    return DUPLICATE_RENDERS.sum();
+  }
+
+  public WrappedComponent rendered(final Pointered ptr) {
+    if (this.renderer == null) {
+      return this;
     }
-    this.lastData = data;
-    return this.lastRendered = this.renderer == null ? this : AdventureCommon.HOOKS.createWrappedComponent(this.renderer.render(this.wrapped, ptr), null, null, this.nonWrappingSerializer);
+
+    final @Nullable Object data = this.partition == null ? null : this.partition.apply(ptr);
+    if (data == null) {
+      // no way to tell which renders can be shared
+      return this.render(ptr);
+    }
+
+    @Nullable RenderCache cache = this.renderCache;
+    final @Nullable WrappedComponent existing = cache == null ? null : cache.get(data);
+    if (existing != null) {
+      return existing;
+    }
+
+    // Render outside any lock, then publish a new snapshot.
+    // Concurrent encoders for the same partition each render at most once, and all but the first result is discarded.
+    final WrappedComponent rendered = SharedRenderCache.rendered(this.wrapped, data, this.renderer, this.nonWrappingSerializer, () -> this.render(ptr));
+    while (!RENDER_CACHE.compareAndSet(this, cache, RenderCache.with(cache, data, rendered))) {
+      cache = this.renderCache;
+      final @Nullable WrappedComponent published = cache.get(data);
+      if (published != null) {
+        DUPLICATE_RENDERS.increment();
+        return published;
+      }
+    }
+    return rendered;
+  }
+
+  /**
+   * Get bytes previously written for this component by a stream codec.
+   *
+   * @param codec the codec that wrote the bytes
+   * @param context the registry context the bytes were written with, if any
+   * @return the encoded bytes, or {@code null} if none were retained for this codec and context
+   */
+  byte @Nullable [] encoded(final Object codec, final @Nullable Object context) {
+    final @Nullable EncodedBytes encoded = this.encoded;
+    return encoded != null && encoded.codec() == codec && encoded.context() == context ? encoded.bytes() : null;
+  }
+
+  void encoded(final Object codec, final @Nullable Object context, final byte[] bytes) {
+    this.encoded = new EncodedBytes(codec, context, bytes);
+  }
+
+  /**
+   * Serialize the wrapped component to a JSON tree.
+   *
+   * <p>The tree is only built once per instance. Every call returns a fresh copy, since callers are free to modify the result.</p>
+   *
+   * @return a new JSON tree
+   */
+  public JsonElement json() {
+    return this.sharedJson().deepCopy();
+  }
+
+  /**
+   * Get the JSON tree of the wrapped component, without copying it.
+   *
+   * <p>The same instance is returned to every caller, so this may only be used where the tree is read and never modified,
+   * such as when it is immediately written out as a string.</p>
+   *
+   * @return the shared JSON tree
+   */
+  public JsonElement sharedJson() {
+    @Nullable JsonElement json = this.json;
+    if (json == null) {
+      json = this.json = GsonComponentSerializer.gson().serializeToTree(this.wrapped);
+    }
+    return json;
+  }
+
+  private WrappedComponent render(final Pointered ptr) {
+    return AdventureCommon.HOOKS.createWrappedComponent(this.renderer.render(this.wrapped, ptr), null, null, this.nonWrappingSerializer);
   }
 
   public Component deepConverted() {
@@ -120,18 +250,47 @@ public class WrappedComponent implements Component {
 
   @Override
   public String getString() {
-    return PlainTextComponentSerializer.plainText().serialize(this.rendered(AdventureCommon.pointered(Pointers::empty)).wrapped);
+    @Nullable String string = this.string;
+    if (string == null) {
+      string = this.string = PlainTextComponentSerializer.plainText().serialize(this.renderedForString());
+    }
+    return string;
   }
 
   @Override
   public String getString(final int length) {
-    return this.deepConverted().getString(length);
+    // flatten the same tree as getString() directly, stopping as soon as enough text has been collected
+    final StringBuilder builder = new StringBuilder(Math.max(0, Math.min(length, 64)));
+    AdventureCommon.FLATTENER.flatten(this.renderedForString(), new FlattenerListener() {
+      @Override
+      public void component(final @NotNull String text) {
+        final int remaining = length - builder.length();
+        if (remaining > 0) {
+          builder.append(text, 0, Math.min(text.length(), remaining));
+        }
+      }
+
+      @Override
+      public boolean shouldContinue() {
+        return builder.length() < length;
+      }
+    });
+    return builder.toString();
+  }
+
+  // plain text views are rendered without any viewer information
+  private net.kyori.adventure.text.Component renderedForString() {
+    return this.rendered(AdventureCommon.pointered(Pointers::empty)).wrapped;
   }
 
   @Override
   public ComponentContents getContents() {
     if (this.wrapped instanceof TextComponent text) {
-      return new PlainTextContents.LiteralContents(text.content());
+      @Nullable ComponentContents contents = this.contents;
+      if (contents == null) {
+        contents = this.contents = PlainTextContents.create(text.content());
+      }
+      return contents;
     } else {
       return this.deepConverted().getContents();
     }
@@ -169,14 +328,115 @@ public class WrappedComponent implements Component {
 
   @Override
   public int hashCode() {
-    return this.deepConverted().hashCode();
+    // must match the hash of equal native components, so it comes from the converted tree, computed once
+    int hash = this.hash;
+    if (hash == 0) {
+      hash = this.hash = this.deepConverted().hashCode();
+    }
+    return hash;
   }
 
+  /**
+   * Compare against another component.
+   *
+   * <p>Wrapped components are equal when their Adventure trees are. Any other component is equal when it equals the native
+   * conversion of this component, which is only performed once text, translation keys and the number of children match.</p>
+   *
+   * @param obj the object to compare against
+   * @return whether the components are equal
+   */
   @Override
   public boolean equals(final Object obj) {
-    if (obj instanceof final WrappedComponent wrappedComponent) {
+    if (this == obj) {
+      return true;
+    } else if (obj instanceof final WrappedComponent wrappedComponent) {
       return this.wrapped().equals(wrappedComponent.wrapped());
+    } else if (!(obj instanceof final Component other)) {
+      return false;
+    }
+
+    final @Nullable Component converted = this.converted;
+    if (converted != null && this.deepConvertedLocalized == null) {
+      return converted.equals(other);
+    }
+    // only convert once the trees have the same shape, most comparisons fail well before that
+    return sameShape(this.wrapped, other) && this.deepConverted().equals(other);
+  }
+
+  /**
+   * Cheaply check whether an adventure and a native component could be equal.
+   *
+   * <p>Only text, translation keys and the number of children are compared, so a {@code true} result still needs a full comparison.</p>
+   *
+   * @param adventure the adventure component
+   * @param other the native component
+   * @return {@code false} if the components definitely differ
+   */
+  static boolean sameShape(final net.kyori.adventure.text.Component adventure, final Component other) {
+    if (other instanceof final WrappedComponent wrappedComponent) {
+      return adventure.equals(wrappedComponent.wrapped());
+    }
+
+    final ComponentContents contents = other.getContents();
+    if (adventure instanceof final TextComponent text) {
+      if (!(contents instanceof final PlainTextContents plain) || !text.content().equals(plain.text())) {
+        return false;
+      }
+    } else if (adventure instanceof final TranslatableComponent translatable) {
+      if (!(contents instanceof final TranslatableContents translation) || !translatable.key().equals(translation.getKey())) {
+        return false;
+      }
+    } else if (contents instanceof PlainTextContents || contents instanceof TranslatableContents) {
+      return false;
+    }
+
+    final List<net.kyori.adventure.text.Component> children = adventure.children();
+    final List<Component> siblings = other.getSiblings();
+    if (children.size() != siblings.size()) {
+      return false;
+    }
+    for (int i = 0; i < children.size(); i++) {
+      if (!sameShape(children.get(i), siblings.get(i))) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private record EncodedBytes(Object codec, @Nullable Object context, byte[] bytes) {
+  }
+
+  /**
+   * An immutable snapshot of rendered results, keyed by partition.
+   *
+   * <p>Once more than {@link #MAX_RENDERED_PARTITIONS} partitions have been rendered, the oldest entry is dropped.</p>
+   *
+   * @param keys partition keys, oldest first
+   * @param values rendered components, in the same order as {@code keys}
+   */
+  private record RenderCache(Object[] keys, WrappedComponent[] values) {
+    static RenderCache with(final @Nullable RenderCache existing, final Object key, final WrappedComponent value) {
+      if (existing == null) {
+        return new RenderCache(new Object[] {key}, new WrappedComponent[] {value});
+      }
+
+      final int length = existing.keys.length;
+      final int drop = length >= MAX_RENDERED_PARTITIONS ? 1 : 0;
+      final Object[] keys = Arrays.copyOfRange(existing.keys, drop, length + 1);
+      final WrappedComponent[] values = Arrays.copyOfRange(existing.values, drop, length + 1);
+      keys[keys.length - 1] = key;
+      values[values.length - 1] = value;
+      return new RenderCache(keys, values);
+    }
+
+    @Nullable WrappedComponent get(final Object key) {
+      final Object[] keys = this.keys;
+      for (int i = keys.length - 1; i >= 0; i--) {
+        if (Objects.equals(keys[i], key)) {
+          return this.values[i];
+        }
+      }
+      return null;
     }
-    return this.deepConverted().equals(obj);
   }
 }
@@ -0,0 +1,86 @@
+/*
+ * This file is part of adventure-platform-mod, licensed under the MIT License.
+ *
+ * Copyright (c) 2020-2024 KyoriPowered
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.kyori.adventure.platform.modcommon.impl.server;
+
+import java.util.ArrayList;
+import java.util.List;
+import net.kyori.adventure.platform.modcommon.ComponentTemplate;
+import net.kyori.adventure.platform.modcommon.impl.WrappedComponent;
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.ComponentLike;
+import net.kyori.adventure.text.TextComponent;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import static java.util.Objects.requireNonNull;
+
+final class ComponentTemplateImpl implements ComponentTemplate {
+  private final MinecraftServerAudiencesImpl controller;
+  // wrapped once, so their renders and encoded bytes are shared by every application. null for empty fragments
+  private final @Nullable WrappedComponent[] fragments;
+
+  ComponentTemplateImpl(final MinecraftServerAudiencesImpl controller, final ComponentLike[] fragments) {
+    if (fragments.length == 0) {
+      throw new IllegalArgumentException("A template needs at least one fragment");
+    }
+    this.controller = controller;
+    this.fragments = new WrappedComponent[fragments.length];
+    for (int i = 0; i < fragments.length; i++) {
+      final Component fragment = requireNonNull(fragments[i], "fragment").asComponent();
+      this.fragments[i] = fragment == Component.empty() ? null : controller.wrap(fragment);
+    }
+  }
+
+  @Override
+  public int arguments() {
+    return this.fragments.length - 1;
+  }
+
+  @Override
+  public net.minecraft.network.chat.@NotNull Component apply(final @NotNull ComponentLike @NotNull... arguments) {
+    if (arguments.length != this.arguments()) {
+      throw new IllegalArgumentException("Template expects " + this.arguments() + " arguments, but was passed " + arguments.length);
+    }
+
+    final List<WrappedComponent> parts = new ArrayList<>(this.fragments.length + arguments.length);
+    final TextComponent.Builder joined = Component.text();
+    for (int i = 0; i < this.fragments.length; i++) {
+      if (i > 0) {
+        final Component argument = requireNonNull(arguments[i - 1], "argument").asComponent();
+        parts.add(this.controller.wrap(argument));
+        joined.append(argument);
+      }
+      final @Nullable WrappedComponent fragment = this.fragments[i];
+      if (fragment != null) {
+        parts.add(fragment);
+        joined.append(fragment.wrapped());
+      }
+    }
+
+    if (parts.isEmpty()) {
+      return net.minecraft.network.chat.Component.empty();
+    }
+    return this.controller.wrap(joined.build()).parts(parts);
+  }
+}
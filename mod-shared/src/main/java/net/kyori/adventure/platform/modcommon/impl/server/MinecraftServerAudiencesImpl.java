@@ -24,25 +24,37 @@
 package net.kyori.adventure.platform.modcommon.impl.server;
 
 import com.google.common.collect.Iterables;
-import java.util.Collections;
+import com.google.common.collect.MapMaker;
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
-import java.util.Set;
 import java.util.UUID;
-import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import net.kyori.adventure.audience.Audience;
 import net.kyori.adventure.key.Key;
 import net.kyori.adventure.permission.PermissionChecker;
 import net.kyori.adventure.platform.modcommon.AdventureCommandSourceStack;
+import net.kyori.adventure.platform.modcommon.ComponentTemplate;
 import net.kyori.adventure.platform.modcommon.MinecraftAudiences;
 import net.kyori.adventure.platform.modcommon.MinecraftServerAudiences;
+import net.kyori.adventure.platform.modcommon.PreparedComponent;
 import net.kyori.adventure.platform.modcommon.impl.AdventureCommandSourceStackInternal;
 import net.kyori.adventure.platform.modcommon.impl.AdventureCommon;
 import net.kyori.adventure.platform.modcommon.impl.MinecraftAudiencesInternal;
+import net.kyori.adventure.platform.modcommon.impl.NativeComponentConverter;
 import net.kyori.adventure.platform.modcommon.impl.NonWrappingComponentSerializer;
+import net.kyori.adventure.platform.modcommon.impl.PermissionCache;
+import net.kyori.adventure.platform.modcommon.impl.RenderInvariance;
+import net.kyori.adventure.platform.modcommon.impl.WrappedComponent;
 import net.kyori.adventure.pointer.Pointered;
 import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.ComponentLike;
 import net.kyori.adventure.text.flattener.ComponentFlattener;
 import net.kyori.adventure.text.renderer.ComponentRenderer;
 import net.kyori.adventure.text.serializer.ComponentSerializer;
@@ -51,10 +63,16 @@ import net.minecraft.commands.CommandSource;
 import net.minecraft.commands.CommandSourceStack;
 import net.minecraft.core.RegistryAccess;
 import net.minecraft.core.registries.Registries;
+import net.minecraft.network.chat.MutableComponent;
 import net.minecraft.resources.ResourceKey;
+import net.minecraft.resources.ResourceLocation;
 import net.minecraft.server.MinecraftServer;
 import net.minecraft.server.level.ServerLevel;
 import net.minecraft.server.level.ServerPlayer;
+import net.minecraft.server.players.PlayerList;
+import net.minecraft.world.level.ChunkPos;
+import net.minecraft.world.level.entity.EntityTypeTest;
+import net.minecraft.world.phys.AABB;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
@@ -64,19 +82,41 @@ import static java.util.Objects.requireNonNull;
  * The entry point for accessing Adventure.
  */
 public final class MinecraftServerAudiencesImpl implements MinecraftServerAudiences, MinecraftAudiencesInternal {
-  private static final Set<MinecraftServerAudiencesImpl> INSTANCES = Collections.newSetFromMap(new WeakHashMap<>());
+  // copy-on-write, so iterating never locks. Cleared references are removed the next time they are seen
+  @SuppressWarnings("unchecked")
+  private static final AtomicReference<WeakReference<MinecraftServerAudiencesImpl>[]> INSTANCES = new AtomicReference<>(new WeakReference[0]);
 
   /**
    * Perform an action on every audience provider instance.
    *
    * @param actor a consumer that will be called for every provider
    */
+  @SuppressWarnings("unchecked")
   public static void forEachInstance(final Consumer<MinecraftServerAudiencesImpl> actor) {
-    synchronized (INSTANCES) {
-      for (final MinecraftServerAudiencesImpl instance : INSTANCES) {
+    boolean cleared = false;
+    for (final WeakReference<MinecraftServerAudiencesImpl> reference : INSTANCES.get()) {
+      final @Nullable MinecraftServerAudiencesImpl instance = reference.get();
+      if (instance == null) {
+        cleared = true;
+      } else {
         actor.accept(instance);
       }
     }
+
+    if (cleared) {
+      INSTANCES.updateAndGet(existing -> Arrays.stream(existing)
+        .filter(reference -> !reference.refersTo(null))
+        .toArray(WeakReference[]::new));
+    }
+  }
+
+  @SuppressWarnings("unchecked")
+  private static void register(final MinecraftServerAudiencesImpl instance) {
+    INSTANCES.updateAndGet(existing -> {
+      final WeakReference<MinecraftServerAudiencesImpl>[] instances = Arrays.copyOf(existing, existing.length + 1);
+      instances[existing.length] = new WeakReference<>(instance);
+      return instances;
+    });
   }
 
   private final MinecraftServer server;
@@ -84,16 +124,32 @@ public final class MinecraftServerAudiencesImpl implements MinecraftServerAudien
   private final Function<Pointered, ?> partition;
   private final ComponentRenderer<Pointered> renderer;
   private final ServerBossBarListener bossBars;
+  private final PlayerAudienceSet players;
+  // keyed by dimension id, only for worlds that have been asked for
+  private final Map<ResourceLocation, PlayerAudienceSet> worlds = new ConcurrentHashMap<>();
+  private final Map<String, PermissionAudience> permissions = new ConcurrentHashMap<>();
+  // values are held strongly by their PreparedComponent, which keeps the key alive for as long as the prepared component is in use
+  private final Map<Component, WrappedComponent> prepared = new MapMaker().weakKeys().weakValues().makeMap();
+  // only present when rendering is known to be translation-only, empty values mark components that do need rendering
+  private final @Nullable Map<Component, Optional<net.minecraft.network.chat.Component>> invariant;
 
   public MinecraftServerAudiencesImpl(final MinecraftServer server, final Function<Pointered, ?> partition, final ComponentRenderer<Pointered> renderer) {
+    this(server, partition, renderer, false);
+  }
+
+  MinecraftServerAudiencesImpl(final MinecraftServer server, final Function<Pointered, ?> partition, final ComponentRenderer<Pointered> renderer, final boolean translationOnly) {
     this.server = server;
     this.nonWrappingSerializer = new NonWrappingComponentSerializer(this::registryAccess);
     this.partition = partition;
     this.renderer = renderer;
+    this.invariant = translationOnly ? new MapMaker().weakKeys().makeMap() : null;
     this.bossBars = new ServerBossBarListener(this);
-    synchronized (INSTANCES) {
-      INSTANCES.add(this);
+    this.players = new PlayerAudienceSet(this);
+    final @Nullable PlayerList playerList = server.getPlayerList(); // not yet created for the server's own provider
+    if (playerList != null) {
+      this.players.reset(playerList.getPlayers());
     }
+    register(this);
   }
 
   public MinecraftServer server() {
@@ -112,7 +168,7 @@ public final class MinecraftServerAudiencesImpl implements MinecraftServerAudien
 
   @Override
   public @NotNull Audience players() {
-    return Audience.audience(this.audiences(this.server.getPlayerList().getPlayers()));
+    return this.players;
   }
 
   @Override
@@ -127,21 +183,43 @@ public final class MinecraftServerAudiencesImpl implements MinecraftServerAudien
 
   @Override
   public @NotNull Audience permission(final @NotNull String permission) {
+    if (PermissionCache.ENABLED) {
+      return this.permissions.computeIfAbsent(requireNonNull(permission, "permission"), node -> new PermissionAudience(this, node, PermissionCache.TTL));
+    }
+
     return Audience.audience(
       Iterables.transform(
         this.server().getPlayerList().getPlayers(),
-        player -> {
-          final Audience audience = this.audience(player);
-          final Optional<PermissionChecker> permissionChecker = audience.get(PermissionChecker.POINTER);
-          if (permissionChecker.isPresent() && permissionChecker.get().test(permission)) {
-            return audience;
-          }
-          return Audience.empty();
-        }
+        player -> this.hasPermission(player, permission) ? this.audience(player) : Audience.empty()
       )
     );
   }
 
+  boolean hasPermission(final ServerPlayer player, final String permission) {
+    final Optional<PermissionChecker> permissionChecker = this.audience(player).get(PermissionChecker.POINTER);
+    return permissionChecker.isPresent() && permissionChecker.get().test(permission);
+  }
+
+  @Override
+  public void invalidatePermissions() {
+    PermissionCache.invalidateAll();
+    for (final PermissionAudience audience : this.permissions.values()) {
+      audience.invalidate();
+    }
+  }
+
+  @Override
+  public void invalidatePermissions(final @NotNull UUID playerId) {
+    PermissionCache.invalidate(requireNonNull(playerId, "playerId"));
+    final @Nullable ServerPlayer player = this.server.getPlayerList().getPlayer(playerId);
+    if (player != null) {
+      for (final PermissionAudience audience : this.permissions.values()) {
+        audience.remove(player);
+        audience.add(player);
+      }
+    }
+  }
+
   @Override
   public @NotNull AdventureCommandSourceStack audience(final @NotNull CommandSourceStack source) {
     if (!(source instanceof final AdventureCommandSourceStackInternal internal)) {
@@ -170,14 +248,73 @@ public final class MinecraftServerAudiencesImpl implements MinecraftServerAudien
 
   @Override
   public @NotNull Audience world(final @NotNull Key worldId) {
-    final @Nullable ServerLevel level = this.server.getLevel(ResourceKey.create(Registries.DIMENSION,
-      MinecraftAudiences.asNative(requireNonNull(worldId, "worldId"))));
+    final ResourceLocation id = MinecraftAudiences.asNative(requireNonNull(worldId, "worldId"));
+    final @Nullable PlayerAudienceSet existing = this.worlds.get(id);
+    if (existing != null) {
+      return existing;
+    }
+
+    final @Nullable ServerLevel level = this.server.getLevel(ResourceKey.create(Registries.DIMENSION, id));
     if (level != null) {
-      return this.audience(level.players());
+      return this.worlds.computeIfAbsent(id, key -> {
+        final PlayerAudienceSet players = new PlayerAudienceSet(this);
+        players.reset(level.players());
+        return players;
+      });
     }
     return Audience.empty();
   }
 
+  // The radius query goes through the level's entity section storage, which already indexes players by chunk section and follows them as they move
+
+  @Override
+  public @NotNull Audience nearby(final @NotNull Key worldId, final double x, final double y, final double z, final double radius) {
+    if (radius < 0) {
+      throw new IllegalArgumentException("Radius must not be negative, but was " + radius);
+    }
+    final @Nullable ServerLevel level = this.level(requireNonNull(worldId, "worldId"));
+    if (level == null) {
+      return Audience.empty();
+    }
+
+    final double radiusSq = radius * radius;
+    return Audience.audience(this.audiences(level.getEntities(
+      EntityTypeTest.forClass(ServerPlayer.class),
+      new AABB(x - radius, y - radius, z - radius, x + radius, y + radius, z + radius),
+      player -> player.distanceToSqr(x, y, z) <= radiusSq
+    )));
+  }
+
+  @Override
+  public @NotNull Audience chunkArea(final @NotNull Key worldId, final int chunkX, final int chunkZ, final int chunkRadius) {
+    if (chunkRadius < 0) {
+      throw new IllegalArgumentException("Chunk radius must not be negative, but was " + chunkRadius);
+    }
+    final @Nullable ServerLevel level = this.level(requireNonNull(worldId, "worldId"));
+    if (level == null) {
+      return Audience.empty();
+    }
+
+    // Filter the level's players rather than querying entity sections by box, which would need a vertical
+    // bound and so miss players flying above the build limit or falling below the world.
+    final int minX = chunkX - chunkRadius;
+    final int maxX = chunkX + chunkRadius;
+    final int minZ = chunkZ - chunkRadius;
+    final int maxZ = chunkZ + chunkRadius;
+    final List<ServerPlayer> inside = new ArrayList<>();
+    for (final ServerPlayer player : level.players()) {
+      final ChunkPos pos = player.chunkPosition();
+      if (pos.x >= minX && pos.x <= maxX && pos.z >= minZ && pos.z <= maxZ) {
+        inside.add(player);
+      }
+    }
+    return Audience.audience(this.audiences(inside));
+  }
+
+  private @Nullable ServerLevel level(final Key worldId) {
+    return this.server.getLevel(ResourceKey.create(Registries.DIMENSION, MinecraftAudiences.asNative(worldId)));
+  }
+
   @Override
   public @NotNull Audience server(final @NotNull String serverName) {
     return Audience.empty();
@@ -207,13 +344,100 @@ public final class MinecraftServerAudiencesImpl implements MinecraftServerAudien
       return net.minecraft.network.chat.Component.empty();
     }
 
-    return AdventureCommon.HOOKS.createWrappedComponent(requireNonNull(adventure, "adventure"), this.partition, this.renderer, this.nonWrappingSerializer);
+    final @Nullable WrappedComponent prepared = this.prepared.get(adventure);
+    if (prepared != null) {
+      return prepared;
+    }
+
+    if (this.invariant != null) {
+      final @Nullable MutableComponent plain = NativeComponentConverter.plainText(adventure);
+      if (plain != null) {
+        return plain;
+      }
+
+      final Optional<net.minecraft.network.chat.Component> converted = this.invariant.computeIfAbsent(
+        adventure,
+        c -> RenderInvariance.isTranslationInvariant(c) ? Optional.of(this.nonWrappingSerializer.serialize(c)) : Optional.empty()
+      );
+      if (converted.isPresent()) {
+        // the cached tree is shared, callers get their own copy to modify
+        return NativeComponentConverter.deepCopy(converted.get());
+      }
+    }
+
+    return this.wrap(requireNonNull(adventure, "adventure"));
+  }
+
+  WrappedComponent wrap(final Component adventure) {
+    return AdventureCommon.HOOKS.createWrappedComponent(adventure, this.partition, this.renderer, this.nonWrappingSerializer);
+  }
+
+  @Override
+  public @NotNull PreparedComponent prepare(final @NotNull Component component) {
+    return this.prepare(component, Iterables.transform(this.server.getPlayerList().getPlayers(), AdventureCommon::pointered));
+  }
+
+  @Override
+  public @NotNull PreparedComponent prepare(final @NotNull Component component, final @NotNull Iterable<? extends Pointered> viewers) {
+    requireNonNull(viewers, "viewers");
+    final WrappedComponent wrapped = this.prepared.computeIfAbsent(requireNonNull(component, "component"), this::wrap);
+    for (final Pointered viewer : viewers) {
+      wrapped.rendered(viewer).deepConverted();
+    }
+    return new PreparedComponentImpl(wrapped);
+  }
+
+  @Override
+  public @NotNull ComponentTemplate template(final @NotNull ComponentLike @NotNull... fragments) {
+    return new ComponentTemplateImpl(this, requireNonNull(fragments, "fragments"));
   }
 
   public ServerBossBarListener bossBars() {
     return this.bossBars;
   }
 
+  // Player tracking, called for every provider
+
+  public void addPlayer(final ServerPlayer player) {
+    if (player.server == this.server) {
+      this.players.add(player);
+      for (final PermissionAudience audience : this.permissions.values()) {
+        audience.add(player);
+      }
+    }
+  }
+
+  public void removePlayer(final ServerPlayer player) {
+    this.players.remove(player);
+    for (final PermissionAudience audience : this.permissions.values()) {
+      audience.remove(player);
+    }
+  }
+
+  public void addPlayer(final ServerLevel level, final ServerPlayer player) {
+    if (level.getServer() == this.server) {
+      final @Nullable PlayerAudienceSet world = this.worlds.get(level.dimension().location());
+      if (world != null) {
+        world.add(player);
+      }
+    }
+  }
+
+  public void removePlayer(final ServerLevel level, final ServerPlayer player) {
+    if (level.getServer() == this.server) {
+      final @Nullable PlayerAudienceSet world = this.worlds.get(level.dimension().location());
+      if (world != null) {
+        world.remove(player);
+      }
+    }
+  }
+
+  public void removeWorld(final ServerLevel level) {
+    if (level.getServer() == this.server) {
+      this.worlds.remove(level.dimension().location());
+    }
+  }
+
   @Override
   public void close() {
   }
@@ -227,6 +451,7 @@ public final class MinecraftServerAudiencesImpl implements MinecraftServerAudien
     private final MinecraftServer server;
     private Function<Pointered, ?> partition;
     private ComponentRenderer<Pointered> renderer;
+    private boolean translationOnly;
 
     public Builder(final MinecraftServer server) {
       this.server = server;
@@ -236,6 +461,15 @@ public final class MinecraftServerAudiencesImpl implements MinecraftServerAudien
     @Override
     public MinecraftServerAudiences.@NotNull Builder componentRenderer(final @NotNull ComponentRenderer<Pointered> componentRenderer) {
       this.renderer = requireNonNull(componentRenderer, "componentRenderer");
+      this.translationOnly = false;
+      return this;
+    }
+
+    @Override
+    public <T> MinecraftServerAudiences.@NotNull Builder componentRenderer(final @NotNull Function<Pointered, T> pointers, final @NotNull ComponentRenderer<T> renderer) {
+      this.partition(pointers).componentRenderer(renderer.mapContext(pointers));
+      // the global translator leaves anything without translatable components untouched, so those can skip rendering entirely
+      this.translationOnly = renderer == GlobalTranslator.renderer();
       return this;
     }
 
@@ -247,7 +481,7 @@ public final class MinecraftServerAudiencesImpl implements MinecraftServerAudien
 
     @Override
     public @NotNull MinecraftServerAudiencesImpl build() {
-      return new MinecraftServerAudiencesImpl(this.server, this.partition, this.renderer);
+      return new MinecraftServerAudiencesImpl(this.server, this.partition, this.renderer, this.translationOnly);
     }
   }
 }
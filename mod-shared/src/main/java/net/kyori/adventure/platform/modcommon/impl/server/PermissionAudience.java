@@ -0,0 +1,91 @@
+/*
+ * This file is part of adventure-platform-mod, licensed under the MIT License.
+ *
+ * Copyright (c) 2020-2024 KyoriPowered
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.kyori.adventure.platform.modcommon.impl.server;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import net.kyori.adventure.audience.Audience;
+import net.kyori.adventure.audience.ForwardingAudience;
+import net.minecraft.server.level.ServerPlayer;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * The players holding a permission, checked once and then kept up to date as players join and leave.
+ *
+ * <p>Membership is rebuilt from the online players after {@link #invalidate()}, or once the configured time to live has passed.</p>
+ */
+final class PermissionAudience implements ForwardingAudience {
+  private final MinecraftServerAudiencesImpl controller;
+  private final String permission;
+  private final long timeToLive;
+  private final PlayerAudienceSet members;
+  private volatile boolean stale = true;
+  private volatile long refreshedAt;
+
+  PermissionAudience(final MinecraftServerAudiencesImpl controller, final String permission, final long timeToLiveMillis) {
+    this.controller = controller;
+    this.permission = permission;
+    this.timeToLive = TimeUnit.MILLISECONDS.toNanos(timeToLiveMillis);
+    this.members = new PlayerAudienceSet(controller);
+  }
+
+  void invalidate() {
+    this.stale = true;
+  }
+
+  void add(final ServerPlayer player) {
+    if (!this.stale && this.controller.hasPermission(player, this.permission)) {
+      this.members.add(player);
+    }
+  }
+
+  void remove(final ServerPlayer player) {
+    this.members.remove(player);
+  }
+
+  private PlayerAudienceSet members() {
+    if (this.stale || (this.timeToLive > 0 && System.nanoTime() - this.refreshedAt > this.timeToLive)) {
+      synchronized (this) {
+        if (this.stale || (this.timeToLive > 0 && System.nanoTime() - this.refreshedAt > this.timeToLive)) {
+          this.members.reset(this.controller.server().getPlayerList().getPlayers().stream()
+            .filter(player -> this.controller.hasPermission(player, this.permission))
+            .toList());
+          this.refreshedAt = System.nanoTime();
+          this.stale = false;
+        }
+      }
+    }
+    return this.members;
+  }
+
+  @Override
+  public @NotNull Iterable<? extends Audience> audiences() {
+    return this.members().audiences();
+  }
+
+  @Override
+  public void forEachAudience(final @NotNull Consumer<? super Audience> action) {
+    this.members().forEachAudience(action);
+  }
+}
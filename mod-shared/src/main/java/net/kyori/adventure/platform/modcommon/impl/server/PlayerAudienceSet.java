@@ -0,0 +1,109 @@
+/*
+ * This file is part of adventure-platform-mod, licensed under the MIT License.
+ *
+ * Copyright (c) 2020-2024 KyoriPowered
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.kyori.adventure.platform.modcommon.impl.server;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.function.Consumer;
+import net.kyori.adventure.audience.Audience;
+import net.kyori.adventure.audience.ForwardingAudience;
+import net.minecraft.server.level.ServerPlayer;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * A copy-on-write set of players, holding each player's audience for one controller.
+ *
+ * <p>Changes are rare compared to sends, so every change copies the backing arrays and sending only iterates a flat array.</p>
+ */
+final class PlayerAudienceSet implements ForwardingAudience {
+  private static final Snapshot EMPTY = new Snapshot(new ServerPlayer[0], new Audience[0]);
+
+  private final MinecraftServerAudiencesImpl controller;
+  private volatile Snapshot snapshot = EMPTY;
+
+  PlayerAudienceSet(final MinecraftServerAudiencesImpl controller) {
+    this.controller = controller;
+  }
+
+  synchronized void reset(final Iterable<ServerPlayer> players) {
+    this.snapshot = EMPTY;
+    for (final ServerPlayer player : players) {
+      this.add(player);
+    }
+  }
+
+  synchronized void add(final ServerPlayer player) {
+    final Snapshot existing = this.snapshot;
+    if (existing.indexOf(player) != -1) {
+      return;
+    }
+
+    final int length = existing.players.length;
+    final ServerPlayer[] players = Arrays.copyOf(existing.players, length + 1);
+    final Audience[] audiences = Arrays.copyOf(existing.audiences, length + 1);
+    players[length] = player;
+    audiences[length] = this.controller.audience(player);
+    this.snapshot = new Snapshot(players, audiences);
+  }
+
+  synchronized void remove(final ServerPlayer player) {
+    final Snapshot existing = this.snapshot;
+    final int index = existing.indexOf(player);
+    if (index == -1) {
+      return;
+    }
+
+    final int length = existing.players.length;
+    final ServerPlayer[] players = new ServerPlayer[length - 1];
+    final Audience[] audiences = new Audience[length - 1];
+    System.arraycopy(existing.players, 0, players, 0, index);
+    System.arraycopy(existing.players, index + 1, players, index, length - index - 1);
+    System.arraycopy(existing.audiences, 0, audiences, 0, index);
+    System.arraycopy(existing.audiences, index + 1, audiences, index, length - index - 1);
+    this.snapshot = new Snapshot(players, audiences);
+  }
+
+  @Override
+  public @NotNull Iterable<? extends Audience> audiences() {
+    return Collections.unmodifiableList(Arrays.asList(this.snapshot.audiences));
+  }
+
+  @Override
+  public void forEachAudience(final @NotNull Consumer<? super Audience> action) {
+    for (final Audience audience : this.snapshot.audiences) {
+      audience.forEachAudience(action);
+    }
+  }
+
+  private record Snapshot(ServerPlayer[] players, Audience[] audiences) {
+    int indexOf(final ServerPlayer player) {
+      for (int i = 0; i < this.players.length; i++) {
+        if (this.players[i] == player) {
+          return i;
+        }
+      }
+      return -1;
+    }
+  }
+}
@@ -23,8 +23,12 @@
  */
 package net.kyori.adventure.platform.modcommon.impl.server;
 
-import java.util.Iterator;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
 import net.kyori.adventure.bossbar.BossBar;
 import net.kyori.adventure.platform.modcommon.impl.AbstractBossBarListener;
 import net.kyori.adventure.platform.modcommon.impl.MinecraftAudiencesInternal;
@@ -33,16 +37,21 @@ import net.minecraft.network.protocol.game.ClientboundBossEventPacket;
 import net.minecraft.server.level.ServerBossEvent;
 import net.minecraft.server.level.ServerPlayer;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 import static java.util.Objects.requireNonNull;
 
 public class ServerBossBarListener extends AbstractBossBarListener<ServerBossEvent> {
+  // the bars each player is subscribed to, so per-player updates don't have to visit every bar
+  private final Map<UUID, Set<BossBar>> subscriptions = new HashMap<>();
+
   public ServerBossBarListener(final MinecraftAudiencesInternal controller) {
     super(controller);
   }
 
   public void subscribe(final ServerPlayer player, final BossBar bar) {
     this.minecraftCreating(requireNonNull(bar, "bar")).addPlayer(requireNonNull(player, "player"));
+    this.subscriptions.computeIfAbsent(player.getUUID(), id -> Collections.newSetFromMap(new IdentityHashMap<>())).add(bar);
   }
 
   /*
@@ -52,6 +61,7 @@ public class ServerBossBarListener extends AbstractBossBarListener<ServerBossEve
    */
 
   public void unsubscribe(final ServerPlayer player, final BossBar bar) {
+    this.forget(player, bar);
     this.bars.computeIfPresent(bar, (key, old) -> {
       old.removePlayer(player);
       if (old.getPlayers().isEmpty()) {
@@ -87,9 +97,18 @@ public class ServerBossBarListener extends AbstractBossBarListener<ServerBossEve
    * @param newPlayer new one
    */
   public void replacePlayer(final ServerPlayer old, final ServerPlayer newPlayer) {
-    for (final ServerBossEvent bar : this.bars.values()) {
-      ((ServerBossEventBridge) bar).adventure$replaceSubscriber(old, newPlayer);
+    final @Nullable Set<BossBar> subscribed = this.subscriptions.remove(old.getUUID());
+    if (subscribed == null) {
+      return;
+    }
+
+    for (final BossBar bar : subscribed) {
+      final @Nullable ServerBossEvent event = this.bars.get(bar);
+      if (event != null) {
+        ((ServerBossEventBridge) event).adventure$replaceSubscriber(old, newPlayer);
+      }
     }
+    this.subscriptions.put(newPlayer.getUUID(), subscribed);
   }
 
   /**
@@ -98,9 +117,15 @@ public class ServerBossBarListener extends AbstractBossBarListener<ServerBossEve
    * @param player player to refresh titles fro
    */
   public void refreshTitles(final ServerPlayer player) {
-    for (final ServerBossEvent bar : this.bars.values()) {
-      if (bar.getPlayers().contains(player)) {
-        player.connection.send(ClientboundBossEventPacket.createUpdateNamePacket(bar));
+    final @Nullable Set<BossBar> subscribed = this.subscriptions.get(player.getUUID());
+    if (subscribed == null) {
+      return;
+    }
+
+    for (final BossBar bar : subscribed) {
+      final @Nullable ServerBossEvent event = this.bars.get(bar);
+      if (event != null && event.getPlayers().contains(player)) {
+        player.connection.send(ClientboundBossEventPacket.createUpdateNamePacket(event));
       }
     }
   }
@@ -111,17 +136,29 @@ public class ServerBossBarListener extends AbstractBossBarListener<ServerBossEve
    * @param player The player to remove
    */
   public void unsubscribeFromAll(final ServerPlayer player) {
-    for (final Iterator<Map.Entry<BossBar, ServerBossEvent>> it = this.bars.entrySet().iterator(); it.hasNext();) {
-      final ServerBossEvent bar = it.next().getValue();
-      if (bar.getPlayers().contains(player)) {
-        bar.removePlayer(player);
-        if (bar.getPlayers().isEmpty()) {
-          it.remove();
+    final @Nullable Set<BossBar> subscribed = this.subscriptions.remove(player.getUUID());
+    if (subscribed == null) {
+      return;
+    }
+
+    for (final BossBar bar : subscribed) {
+      final @Nullable ServerBossEvent event = this.bars.get(bar);
+      if (event != null && event.getPlayers().contains(player)) {
+        event.removePlayer(player);
+        if (event.getPlayers().isEmpty()) {
+          this.bars.remove(bar);
         }
       }
     }
   }
 
+  private void forget(final ServerPlayer player, final BossBar bar) {
+    final @Nullable Set<BossBar> subscribed = this.subscriptions.get(player.getUUID());
+    if (subscribed != null && subscribed.remove(bar) && subscribed.isEmpty()) {
+      this.subscriptions.remove(player.getUUID());
+    }
+  }
+
   @Override
   protected ServerBossEvent newBar(
     final @NotNull Component title,
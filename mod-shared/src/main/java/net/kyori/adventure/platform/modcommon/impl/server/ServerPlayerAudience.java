@@ -42,8 +42,10 @@ import net.kyori.adventure.platform.modcommon.impl.AdventureCommon;
 import net.kyori.adventure.platform.modcommon.impl.ControlledAudience;
 import net.kyori.adventure.platform.modcommon.impl.GameEnums;
 import net.kyori.adventure.platform.modcommon.impl.MinecraftAudiencesInternal;
+import net.kyori.adventure.platform.modcommon.impl.ParallelConversion;
 import net.kyori.adventure.platform.modcommon.impl.accessor.minecraft.network.ServerGamePacketListenerImplAccess;
 import net.kyori.adventure.platform.modcommon.impl.accessor.minecraft.world.level.LevelAccess;
+import net.kyori.adventure.pointer.Pointered;
 import net.kyori.adventure.pointer.Pointers;
 import net.kyori.adventure.resource.ResourcePackCallback;
 import net.kyori.adventure.resource.ResourcePackInfo;
@@ -259,8 +261,7 @@ public class ServerPlayerAudience implements ControlledAudience {
       Filterable.passThrough(validateField(this.adventure$plain(book.title()), WrittenBookContent.TITLE_MAX_LENGTH, "title")),
       this.adventure$plain(book.author()),
       0,
-      book.pages().stream()
-        .map(this.controller::asNative)
+      this.adventure$pages(book.pages()).stream()
         .map(Filterable::passThrough)
         .toList(),
       true
@@ -295,6 +296,15 @@ public class ServerPlayerAudience implements ControlledAudience {
     return PlainTextComponentSerializer.plainText().serialize(this.controller.renderer().render(component, this));
   }
 
+  private List<net.minecraft.network.chat.Component> adventure$pages(final List<Component> pages) {
+    if (ParallelConversion.shouldSplit(pages.size())) {
+      // render every page for this player up front, so encoding the book only finds cached results
+      final Pointered viewer = AdventureCommon.pointered(this.player);
+      return ParallelConversion.map(pages, page -> ParallelConversion.preconverted(this.controller.asNative(page), viewer));
+    }
+    return pages.stream().map(this.controller::asNative).toList();
+  }
+
   @Override
   public void showTitle(final @NotNull Title title) {
     if (title.subtitle() != Component.empty()) {
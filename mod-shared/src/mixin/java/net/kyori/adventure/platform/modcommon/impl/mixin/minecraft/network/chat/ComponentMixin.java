@@ -25,7 +25,6 @@ package net.kyori.adventure.platform.modcommon.impl.mixin.minecraft.network.chat
 
 import com.google.gson.JsonElement;
 import net.kyori.adventure.platform.modcommon.impl.WrappedComponent;
-import net.kyori.adventure.text.serializer.gson.GsonComponentSerializer;
 import net.minecraft.core.HolderLookup;
 import net.minecraft.network.chat.Component;
 import org.jetbrains.annotations.Nullable;
@@ -47,7 +46,7 @@ public interface ComponentMixin {
       if (text instanceof WrappedComponent w) {
         final @Nullable Component converted = w.deepConvertedIfPresent();
         if (converted == null) {
-          cir.setReturnValue(GsonComponentSerializer.gson().serializeToTree(w.wrapped()));
+          cir.setReturnValue(w.sharedJson()); // only ever turned straight into a string
         }
       }
     }
@@ -32,6 +32,7 @@ import net.kyori.adventure.permission.PermissionChecker;
 import net.kyori.adventure.platform.modcommon.MinecraftServerAudiences;
 import net.kyori.adventure.platform.modcommon.impl.ControlledAudience;
 import net.kyori.adventure.platform.modcommon.impl.MinecraftAudiencesInternal;
+import net.kyori.adventure.platform.modcommon.impl.SharedRenderCache;
 import net.kyori.adventure.platform.modcommon.impl.server.MinecraftServerAudiencesImpl;
 import net.kyori.adventure.platform.modcommon.impl.server.MinecraftServerBridge;
 import net.kyori.adventure.platform.modcommon.impl.server.PlainAudience;
@@ -46,6 +47,9 @@ import org.slf4j.Logger;
 import org.spongepowered.asm.mixin.Final;
 import org.spongepowered.asm.mixin.Mixin;
 import org.spongepowered.asm.mixin.Shadow;
+import org.spongepowered.asm.mixin.injection.At;
+import org.spongepowered.asm.mixin.injection.Inject;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
 
 /**
  * Implement ComponentCommandOutput for output to the server console.
@@ -64,6 +68,11 @@ public abstract class MinecraftServerMixin implements MinecraftServerBridge, Ren
   private final Audience adventure$backing = this.renderUsing(this.adventure$globalProvider);
   private volatile Pointers adventure$pointers;
 
+  @Inject(method = "stopServer", at = @At("TAIL"))
+  private void adventure$releaseRenderCache(final CallbackInfo ci) {
+    SharedRenderCache.serverStopped(); // cached renders keep this server reachable
+  }
+
   @Override
   public MinecraftServerAudiences adventure$globalProvider() {
     return this.adventure$globalProvider;
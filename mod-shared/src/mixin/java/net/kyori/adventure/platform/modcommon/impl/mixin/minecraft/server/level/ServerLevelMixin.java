@@ -0,0 +1,54 @@
+/*
+ * This file is part of adventure-platform-mod, licensed under the MIT License.
+ *
+ * Copyright (c) 2020-2024 KyoriPowered
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.kyori.adventure.platform.modcommon.impl.mixin.minecraft.server.level;
+
+import net.kyori.adventure.platform.modcommon.impl.server.MinecraftServerAudiencesImpl;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.server.level.ServerPlayer;
+import net.minecraft.world.entity.Entity;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.injection.At;
+import org.spongepowered.asm.mixin.injection.Inject;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
+
+@Mixin(ServerLevel.class)
+public abstract class ServerLevelMixin {
+  // Joining, respawning and changing dimension all pass through these
+
+  @Inject(method = "addPlayer", at = @At("TAIL"))
+  private void adventure$addPlayer(final ServerPlayer player, final CallbackInfo ci) {
+    MinecraftServerAudiencesImpl.forEachInstance(controller -> controller.addPlayer((ServerLevel) (Object) this, player));
+  }
+
+  @Inject(method = "close", at = @At("HEAD"))
+  private void adventure$removeWorld(final CallbackInfo ci) {
+    // the dimension may be loaded again later, as a different level
+    MinecraftServerAudiencesImpl.forEachInstance(controller -> controller.removeWorld((ServerLevel) (Object) this));
+  }
+
+  @Inject(method = "removePlayerImmediately", at = @At("TAIL"))
+  private void adventure$removePlayer(final ServerPlayer player, final Entity.RemovalReason reason, final CallbackInfo ci) {
+    MinecraftServerAudiencesImpl.forEachInstance(controller -> controller.removePlayer((ServerLevel) (Object) this, player));
+  }
+}
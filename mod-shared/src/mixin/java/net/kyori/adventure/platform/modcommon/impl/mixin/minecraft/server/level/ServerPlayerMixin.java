@@ -34,6 +34,7 @@ import net.kyori.adventure.platform.modcommon.impl.LocaleHolderBridge;
 import net.kyori.adventure.platform.modcommon.impl.MinecraftAudiencesInternal;
 import net.kyori.adventure.platform.modcommon.impl.mixin.minecraft.world.entity.player.PlayerMixin;
 import net.kyori.adventure.platform.modcommon.impl.server.MinecraftServerAudiencesImpl;
+import net.kyori.adventure.platform.modcommon.impl.server.MinecraftServerBridge;
 import net.kyori.adventure.platform.modcommon.impl.server.RenderableAudience;
 import net.kyori.adventure.platform.modcommon.impl.server.ServerPlayerAudience;
 import net.minecraft.server.MinecraftServer;
@@ -43,6 +44,7 @@ import net.minecraft.world.entity.EntityType;
 import net.minecraft.world.entity.LivingEntity;
 import net.minecraft.world.level.Level;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 import org.spongepowered.asm.mixin.Final;
 import org.spongepowered.asm.mixin.Mixin;
 import org.spongepowered.asm.mixin.Shadow;
@@ -60,7 +62,9 @@ public abstract class ServerPlayerMixin extends PlayerMixin implements Forwardin
 
   private Audience adventure$backing;
   private Locale adventure$locale;
-  private final Map<MinecraftServerAudiencesImpl, Audience> adventure$renderers = new MapMaker().weakKeys().makeMap();
+  // nearly every lookup is for the server's own provider, so it gets a field and other providers share a lazily created map
+  private @Nullable Audience adventure$globalRenderer;
+  private @Nullable Map<MinecraftServerAudiencesImpl, Audience> adventure$renderers;
 
   protected ServerPlayerMixin(final EntityType<? extends LivingEntity> entityType, final Level level) {
     super(entityType, level);
@@ -88,7 +92,20 @@ public abstract class ServerPlayerMixin extends PlayerMixin implements Forwardin
 
   @Override
   public Audience renderUsing(final MinecraftServerAudiencesImpl controller) {
-    return this.adventure$renderers.computeIfAbsent(controller, ctrl -> new ServerPlayerAudience((ServerPlayer) (Object) this, ctrl));
+    if (controller == ((MinecraftServerBridge) this.server).adventure$globalProvider()) {
+      @Nullable Audience global = this.adventure$globalRenderer;
+      if (global == null) {
+        global = this.adventure$globalRenderer = new ServerPlayerAudience((ServerPlayer) (Object) this, controller);
+      }
+      return global;
+    }
+
+    @Nullable Map<MinecraftServerAudiencesImpl, Audience> renderers = this.adventure$renderers;
+    if (renderers == null) {
+      // a racing thread may replace this map, which only costs recreating a stateless audience
+      renderers = this.adventure$renderers = new MapMaker().weakKeys().makeMap();
+    }
+    return renderers.computeIfAbsent(controller, ctrl -> new ServerPlayerAudience((ServerPlayer) (Object) this, ctrl));
   }
 
   @Override
@@ -0,0 +1,61 @@
+/*
+ * This file is part of adventure-platform-mod, licensed under the MIT License.
+ *
+ * Copyright (c) 2020-2024 KyoriPowered
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.kyori.adventure.platform.modcommon.impl.mixin.minecraft.server.players;
+
+import com.llamalad7.mixinextras.injector.wrapoperation.Operation;
+import com.llamalad7.mixinextras.injector.wrapoperation.WrapOperation;
+import java.util.List;
+import net.kyori.adventure.platform.modcommon.impl.PermissionCache;
+import net.kyori.adventure.platform.modcommon.impl.server.MinecraftServerAudiencesImpl;
+import net.minecraft.server.level.ServerPlayer;
+import net.minecraft.server.players.PlayerList;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.injection.At;
+import org.spongepowered.asm.mixin.injection.Inject;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
+
+@Mixin(PlayerList.class)
+public abstract class PlayerListMixin {
+  // Keep each provider's player audiences in step with the player list, updating them right where the list itself changes.
+  // This way join, respawn and leave hooks that fire later in these methods already see the current players, in list order.
+
+  @WrapOperation(method = {"placeNewPlayer", "respawn"}, at = @At(value = "INVOKE", target = "Ljava/util/List;add(Ljava/lang/Object;)Z"))
+  private boolean adventure$addPlayer(final List<ServerPlayer> players, final Object player, final Operation<Boolean> original) {
+    final boolean added = original.call(players, player);
+    MinecraftServerAudiencesImpl.forEachInstance(controller -> controller.addPlayer((ServerPlayer) player));
+    return added;
+  }
+
+  @WrapOperation(method = {"remove", "respawn"}, at = @At(value = "INVOKE", target = "Ljava/util/List;remove(Ljava/lang/Object;)Z"))
+  private boolean adventure$removePlayer(final List<ServerPlayer> players, final Object player, final Operation<Boolean> original) {
+    final boolean removed = original.call(players, player);
+    MinecraftServerAudiencesImpl.forEachInstance(controller -> controller.removePlayer((ServerPlayer) player));
+    return removed;
+  }
+
+  @Inject(method = "remove", at = @At("TAIL"))
+  private void adventure$invalidatePermissions(final ServerPlayer player, final CallbackInfo ci) {
+    PermissionCache.invalidate(player.getUUID()); // start fresh on the next join
+  }
+}
@@ -24,10 +24,9 @@
 package net.kyori.adventure.platform.neoforge.impl;
 
 import com.google.auto.service.AutoService;
-import com.google.common.cache.Cache;
-import com.google.common.cache.CacheBuilder;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Objects;
-import java.util.concurrent.ExecutionException;
 import net.kyori.adventure.Adventure;
 import net.kyori.adventure.permission.PermissionChecker;
 import net.kyori.adventure.platform.modcommon.ComponentArgumentType;
@@ -36,6 +35,7 @@ import net.kyori.adventure.platform.modcommon.impl.AdventureCommon;
 import net.kyori.adventure.platform.modcommon.impl.ClickCallbackRegistry;
 import net.kyori.adventure.platform.modcommon.impl.ComponentArgumentTypeSerializer;
 import net.kyori.adventure.platform.modcommon.impl.LocaleHolderBridge;
+import net.kyori.adventure.platform.modcommon.impl.PermissionCache;
 import net.kyori.adventure.platform.modcommon.impl.PlatformHooks;
 import net.kyori.adventure.platform.modcommon.impl.SidedProxy;
 import net.kyori.adventure.platform.modcommon.impl.client.ClientProxy;
@@ -62,6 +62,8 @@ import net.neoforged.fml.loading.FMLLoader;
 import net.neoforged.neoforge.common.NeoForge;
 import net.neoforged.neoforge.event.RegisterCommandsEvent;
 import net.neoforged.neoforge.event.entity.player.ClientInformationUpdatedEvent;
+import net.neoforged.neoforge.event.server.ServerStartedEvent;
+import net.neoforged.neoforge.event.server.ServerStoppedEvent;
 import net.neoforged.neoforge.registries.DeferredRegister;
 import net.neoforged.neoforge.server.permission.PermissionAPI;
 import net.neoforged.neoforge.server.permission.nodes.PermissionNode;
@@ -117,14 +119,17 @@ public final class AdventureNeoforgeCommon {
     NeoForge.EVENT_BUS.addListener((RegisterCommandsEvent e) -> {
       ClickCallbackRegistry.INSTANCE.registerToDispatcher(e.getDispatcher());
     });
+    // permission nodes are gathered again for every server
+    NeoForge.EVENT_BUS.addListener((ServerStartedEvent e) -> ForgeHooks.invalidatePermissions());
+    NeoForge.EVENT_BUS.addListener((ServerStoppedEvent e) -> ForgeHooks.invalidatePermissions());
 
     AdventureCommon.scheduleClickCallbackCleanup();
   }
 
   @AutoService(PlatformHooks.class)
   public static final class ForgeHooks implements PlatformHooks {
-    private static final Cache<String, PermissionNode<Boolean>> PERMISSION_NODE_CACHE = CacheBuilder.newBuilder().maximumSize(100).build();
-    private static final PermissionNode<Boolean> NULL = new PermissionNode<>(Adventure.NAMESPACE, "null", PermissionTypes.BOOLEAN, (player, playerUUID, context) -> true);
+    // boolean nodes by name, built on first use after each server start
+    private static volatile @Nullable Map<String, PermissionNode<Boolean>> permissionNodes;
 
     @Override
     public SidedProxy sidedProxy() {
@@ -152,21 +157,32 @@ public final class AdventureNeoforgeCommon {
       NeoForge.EVENT_BUS.post(new CollectPointersEvent(pointered, builder));
     }
 
-    @SuppressWarnings("unchecked")
     private TriState hasPermission(final ServerPlayer player, final String permission) {
-      final PermissionNode<Boolean> node;
-      try {
-        node = PERMISSION_NODE_CACHE.get(permission, () -> (PermissionNode<Boolean>) PermissionAPI.getRegisteredNodes().stream()
-          .filter(n -> n.getNodeName().equals(permission) && n.getType() == PermissionTypes.BOOLEAN)
-          .findFirst()
-          .orElse(NULL));
-      } catch (final ExecutionException e) {
-        throw new RuntimeException(e);
-      }
-      if (node == NULL) {
+      final @Nullable PermissionNode<Boolean> node = permissionNodes().get(permission);
+      if (node == null) {
         return TriState.NOT_SET;
       }
-      return TriState.byBoolean(PermissionAPI.getPermission(player, node));
+      return PermissionCache.get(player.getUUID(), permission, () -> TriState.byBoolean(PermissionAPI.getPermission(player, node)));
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<String, PermissionNode<Boolean>> permissionNodes() {
+      @Nullable Map<String, PermissionNode<Boolean>> nodes = permissionNodes;
+      if (nodes == null) {
+        nodes = new HashMap<>();
+        for (final PermissionNode<?> node : PermissionAPI.getRegisteredNodes()) {
+          if (node.getType() == PermissionTypes.BOOLEAN) {
+            nodes.putIfAbsent(node.getNodeName(), (PermissionNode<Boolean>) node);
+          }
+        }
+        permissionNodes = nodes;
+      }
+      return nodes;
+    }
+
+    static void invalidatePermissions() {
+      permissionNodes = null;
+      PermissionCache.invalidateAll();
     }
   }
 }